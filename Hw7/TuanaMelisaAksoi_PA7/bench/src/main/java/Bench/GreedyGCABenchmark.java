@@ -0,0 +1,55 @@
+package Bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.GCA.GCASolution;
+import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Sorting.GTUSorter;
+
+/**
+ * Colors random graphs of increasing density with GreedyGCA, once per vertex sorter.
+ * The graph is built once per trial and only read by the benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GreedyGCABenchmark {
+    @Param({"quick", "quick+insert10", "merge", "radix"})
+    public String sorter;
+
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    @Param({"2", "16", "64"})
+    public int averageDegree;
+
+    private GTUSorter instance;
+    private GTUGraph graph;
+
+    @Setup
+    public void setup() {
+        instance = Inputs.sorter(sorter);
+        graph = Inputs.graph(vertices, averageDegree);
+    }
+
+    @Benchmark
+    public GCASolution solve() {
+        return GreedyGCA.solve(graph, instance);
+    }
+}
@@ -0,0 +1,78 @@
+package Bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Graphs.GCA.IncrementalGCA;
+import DSA.Sorting.MyQuickSort;
+
+/**
+ * Adds BATCHES batches of BATCH_SIZE random edges to a colored graph with
+ * IncrementalGCA. The batch latency should not grow with the graph, so compare
+ * the score of the small and large size of each graph type; a MatrixGraph is
+ * only expected to grow by its O(V / 64) neighbor scans.
+ *
+ * Every iteration starts again from the same colored graph, so each one
+ * measures the same edges. Scores are the time of all BATCHES batches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(2)
+public class IncrementalGCABenchmark {
+    private static final int BATCHES = 100;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"matrix:2000", "matrix:16000", "csr:20000", "csr:200000"})
+    public String graph;
+
+    @Param({"10"})
+    public int averageDegree;
+
+    private IncrementalGCA service;
+    private int[][] from;
+    private int[][] to;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        String[] parts = graph.split(":");
+        int vertices = Integer.parseInt(parts[1]);
+        service = new IncrementalGCA(Inputs.graph(parts[0], vertices, averageDegree),
+                new GreedyGCA(new MyQuickSort()));
+
+        Random random = new Random(Inputs.SEED + 1);
+        from = new int[BATCHES][BATCH_SIZE];
+        to = new int[BATCHES][BATCH_SIZE];
+        for (int b = 0; b < BATCHES; b++) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                from[b][i] = random.nextInt(vertices);
+                to[b][i] = random.nextInt(vertices);
+            }
+        }
+    }
+
+    @Benchmark
+    public int addBatches() {
+        int recolored = 0;
+        for (int b = 0; b < BATCHES; b++) {
+            recolored += service.setEdges(from[b], to[b], BATCH_SIZE);
+        }
+        return recolored;
+    }
+}
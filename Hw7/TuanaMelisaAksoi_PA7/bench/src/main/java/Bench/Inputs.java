@@ -0,0 +1,105 @@
+package Bench;
+
+import java.util.Random;
+
+import DSA.Graphs.CsrGraph.CsrGraph;
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.Sorting.GTUSorter;
+import DSA.Sorting.MyHeapSort;
+import DSA.Sorting.MyInsertSort;
+import DSA.Sorting.MyMergeSort;
+import DSA.Sorting.MyQuickSort;
+import DSA.Sorting.MyRadixSort;
+import DSA.Sorting.MySelectSort;
+
+/**
+ * Sorters and inputs shared by the benchmarks.
+ * Every input is generated from a fixed seed, so all runs measure the same data.
+ */
+final class Inputs {
+    static final long SEED = 20240501L;
+
+    private Inputs() {
+    }
+
+    /**
+     * Create the sorter with the given benchmark name.
+     * @param name One of the names listed in the sorter parameters.
+     * @return A new sorter.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    static GTUSorter sorter(String name) {
+        switch (name) {
+            case "insert": return new MyInsertSort();
+            case "select": return new MySelectSort();
+            case "quick": return new MyQuickSort();
+            case "quick+insert10": return new MyQuickSort(new MyInsertSort(), 10);
+            case "quick+select10": return new MyQuickSort(new MySelectSort(), 10);
+            case "merge": return new MyMergeSort();
+            case "heap": return new MyHeapSort();
+            case "radix": return new MyRadixSort();
+            default: throw new IllegalArgumentException("Unknown sorter: " + name);
+        }
+    }
+
+    /**
+     * Create an int array with the given distribution.
+     * @param distribution random, sorted, reversed or few-unique.
+     * @param size Number of values.
+     * @return The values.
+     * @throws IllegalArgumentException if the distribution is unknown.
+     */
+    static int[] values(String distribution, int size) {
+        Random random = new Random(SEED);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "random": values[i] = random.nextInt(); break;
+                case "sorted": values[i] = i; break;
+                case "reversed": values[i] = size - i; break;
+                case "few-unique": values[i] = random.nextInt(8); break;
+                default: throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Create a random graph with the given average degree.
+     * @param vertices Number of vertices.
+     * @param averageDegree Average number of neighbors per vertex.
+     * @return The graph, already compacted.
+     */
+    static GTUGraph graph(int vertices, int averageDegree) {
+        return graph("csr", vertices, averageDegree);
+    }
+
+    /**
+     * Create a random graph of the given type with the given average degree.
+     * @param type csr or matrix.
+     * @param vertices Number of vertices.
+     * @param averageDegree Average number of neighbors per vertex.
+     * @return The graph, already compacted.
+     * @throws IllegalArgumentException if the type is unknown.
+     */
+    static GTUGraph graph(String type, int vertices, int averageDegree) {
+        Random random = new Random(SEED);
+        int edges = (int) ((long) vertices * averageDegree / 2);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            from[i] = random.nextInt(vertices);
+            to[i] = random.nextInt(vertices);
+        }
+        GTUGraph graph;
+        switch (type) {
+            case "csr": graph = new CsrGraph(vertices); break;
+            case "matrix": graph = new MatrixGraph(vertices); break;
+            default: throw new IllegalArgumentException("Unknown graph type: " + type);
+        }
+        graph.setEdges(from, to, edges);
+        graph.getNeighbors(0);
+        return graph;
+    }
+}
@@ -0,0 +1,58 @@
+package Bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import DSA.Sorting.GTUSorter;
+import DSA.Sorting.MyQuickSort;
+
+/**
+ * Sweeps the partitionLimit of the hybrid MyQuickSort, the number to settle
+ * before hard-coding a cutoff. A limit of 0 is plain quicksort.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PartitionLimitBenchmark {
+    @Param({"insert", "select"})
+    public String subSorter;
+
+    @Param({"0", "4", "8", "10", "16", "24", "32", "48", "64"})
+    public int partitionLimit;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"random", "few-unique"})
+    public String distribution;
+
+    private GTUSorter instance;
+    private int[] values;
+
+    @Setup
+    public void setup() {
+        instance = new MyQuickSort(Inputs.sorter(subSorter), partitionLimit);
+        values = Inputs.values(distribution, size);
+    }
+
+    @Benchmark
+    public int[] sortInts() {
+        int[] copy = values.clone();
+        instance.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,83 @@
+package Bench;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import DSA.Sorting.GTUSorter;
+
+/**
+ * Sorts the same input with every sorter, through the comparator path
+ * (boxed Integers, as the vertex sort in GreedyGCA did) and through the
+ * primitive int path used by Main.
+ *
+ * Each operation sorts a fresh copy of the input; copyOnly measures the cost
+ * of that copy so it can be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SorterBenchmark {
+    private static final Comparator<Integer> ASCENDING = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    @Param({"insert", "select", "quick", "quick+insert10", "quick+select10", "merge", "heap", "radix"})
+    public String sorter;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"random", "sorted", "reversed", "few-unique"})
+    public String distribution;
+
+    private GTUSorter instance;
+    private int[] values;
+    private Integer[] boxed;
+
+    @Setup
+    public void setup() {
+        instance = Inputs.sorter(sorter);
+        values = Inputs.values(distribution, size);
+        boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = values[i];
+        }
+    }
+
+    @Benchmark
+    public Integer[] sortObjects() {
+        Integer[] copy = boxed.clone();
+        instance.sort(copy, ASCENDING);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] sortInts() {
+        int[] copy = values.clone();
+        instance.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] copyOnly() {
+        return values.clone();
+    }
+}
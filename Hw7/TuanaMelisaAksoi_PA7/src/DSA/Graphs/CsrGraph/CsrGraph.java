@@ -0,0 +1,821 @@
+package DSA.Graphs.CsrGraph;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import DSA.Graphs.GTUGraph;
+import DSA.IO.EdgeFileReader;
+import DSA.IO.EdgeSink;
+
+/**
+ * Implementation of GTUGraph interface using a compressed sparse row representation.
+ * The neighbors of vertex v are stored sorted in targets[offsets[v]] .. targets[offsets[v + 1] - 1],
+ * so the graph needs O(V + E) memory instead of the O(V²) of an adjacency matrix.
+ *
+ * Edges added with setEdge are checked against the rows and kept in a small
+ * overlay: every vertex has an array of its new neighbors, which setEdge
+ * appends to unsorted. The first read of a vertex after that sorts its array,
+ * and reads merge it with the row on the fly, so adding edges never rebuilds
+ * the rows and a few edges can be added to a large graph cheaply. The overlay
+ * is merged into the rows by setEdge once it holds about as many entries as
+ * the rows and vertices together, which spreads each O(V + E log d) rebuild
+ * over at least that many edges.
+ *
+ * Edges added with setEdges are appended unchecked and merged into the rows,
+ * together with the overlay, on the next read. Such a read, or the read of a
+ * vertex whose buffered neighbors are not sorted yet, modifies the graph, so
+ * the graph is not thread-safe while edges are pending. degrees() sorts every
+ * buffered neighbor array; after it, several threads may read the graph
+ * concurrently as long as no edge is added.
+ */
+public class CsrGraph implements GTUGraph {
+    private static final int INITIAL_PENDING = 16;
+
+    private int vertexCount;
+    private int[] offsets;
+    private int[] targets;
+
+    private long edgeCount;
+    private int[] degreeCount;
+
+    private int[] pendingFrom;
+    private int[] pendingTo;
+    private int pendingCount;
+
+    /** Buffered edges added by setEdge, so a repeated setEdge can be recognized. */
+    private EdgeSet pendingEdges;
+    /** Whether the buffer holds edges from setEdges that were not looked up. */
+    private boolean uncheckedPending;
+
+    /** Number of buffered neighbors of every vertex, or null before the first setEdge. */
+    private int[] extraDegree;
+    /** Buffered neighbors of every vertex, in the first extraDegree slots; null for none. */
+    private int[][] extraRows;
+    /** Whether a vertex's buffered neighbors were appended to since they were last sorted. */
+    private boolean[] extraUnsorted;
+    /** Vertices that became unsorted, so degrees() can sort them without a scan. */
+    private int[] unsortedVertices;
+    private int unsortedCount;
+    /** Total buffered neighbors; two per buffered edge, one per self-loop. */
+    private int extraCount;
+
+    /**
+     * Creates an empty graph with no vertices.
+     *
+     * Time Complexity: O(1)
+     */
+    public CsrGraph() {
+        this(0);
+    }
+
+    /**
+     * Creates a new graph with the specified number of vertices and no edges.
+     * @param vertexCount The number of vertices in the graph
+     * @throws IllegalArgumentException if vertexCount is negative
+     *
+     * Time Complexity: O(n) where n is the vertex count
+     */
+    public CsrGraph(int vertexCount) {
+        reset(vertexCount);
+    }
+
+    /**
+     * Creates a graph directly from compressed sparse row arrays.
+     * Each row must already be sorted and free of duplicates.
+     * @param vertexCount The number of vertices
+     * @param offsets Row offsets of length vertexCount + 1
+     * @param targets Neighbor IDs of length offsets[vertexCount]
+     *
+     * Time Complexity: O(1)
+     */
+    private CsrGraph(int vertexCount, int[] offsets, int[] targets) {
+        this.vertexCount = vertexCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.pendingFrom = new int[0];
+        this.pendingTo = new int[0];
+        this.pendingCount = 0;
+        this.pendingEdges = new EdgeSet();
+        this.uncheckedPending = false;
+        clearExtra();
+        updateDegreeStats();
+    }
+
+    /**
+     * Builds a graph from an edge file in the format used by GTUGraph.readGraph.
+     * The file is read twice: the first pass counts the degree of every vertex,
+     * the second pass writes each edge straight into its slot in the target array.
+     * No per-edge objects are kept between the passes.
+     * @param filePath Path to the edge file
+     * @return The loaded graph
+     * @throws IOException if the file cannot be read
+     * @throws IndexOutOfBoundsException if an edge refers to a vertex outside the graph
+     *
+     * Time Complexity: O(V + E log d) where d is the largest degree
+     */
+    public static CsrGraph fromEdgeFile(String filePath) throws IOException {
+        // First pass: count the degree of every vertex.
+        DegreeCounter counter = new DegreeCounter();
+        EdgeFileReader.read(filePath, counter);
+
+        int vertexCount = counter.vertexCount;
+        int[] offsets = counter.offsets;
+        for (int i = 0; i < vertexCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        // Second pass: place every edge in its row.
+        int[] targets = new int[offsets[vertexCount]];
+        int[] cursor = Arrays.copyOf(offsets, vertexCount);
+        EdgeFileReader.read(filePath, new EdgeSink() {
+            @Override
+            public void begin(int vertexCount) {
+            }
+
+            @Override
+            public void edges(int[] from, int[] to, int count) {
+                for (int i = 0; i < count; i++) {
+                    int v1 = from[i];
+                    int v2 = to[i];
+                    targets[cursor[v1]++] = v2;
+                    if (v1 != v2) targets[cursor[v2]++] = v1;
+                }
+            }
+        });
+
+        return new CsrGraph(vertexCount, offsets, sortAndDeduplicate(vertexCount, offsets, targets));
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     * @return The total number of vertices
+     *
+     * Time Complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return vertexCount;
+    }
+
+    /**
+     * Checks if an edge exists between two vertices.
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if an edge exists between v1 and v2, false otherwise
+     * @throws IndexOutOfBoundsException if either vertex index is out of bounds
+     *
+     * Time Complexity: O(log d) where d is the degree of v1, plus any merge of setEdges edges
+     */
+    @Override
+    public Boolean getEdge(int v1, int v2) {
+        checkVertex(v1, vertexCount);
+        checkVertex(v2, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        return Arrays.binarySearch(targets, offsets[v1], offsets[v1 + 1], v2) >= 0
+                || pendingEdges.contains(v1, v2);
+    }
+
+    /**
+     * Adds an edge between two vertices.
+     * The edge is appended to the overlay arrays of both ends; the rows are only
+     * rebuilt once the overlay has grown as large as the rows and vertices.
+     * If the buffer holds edges from setEdges, those are merged first so the
+     * edge can be looked up.
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return false if the edge was already in the graph or buffered, true otherwise
+     * @throws IndexOutOfBoundsException if either vertex index is out of bounds
+     *
+     * Time Complexity: O(log d) expected amortized where d is the largest degree,
+     * plus any merge of setEdges edges
+     */
+    @Override
+    public Boolean setEdge(int v1, int v2) {
+        checkVertex(v1, vertexCount);
+        checkVertex(v2, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        if (Arrays.binarySearch(targets, offsets[v1], offsets[v1 + 1], v2) >= 0) {
+            return false;
+        }
+        if (!pendingEdges.add(v1, v2)) {
+            return false;
+        }
+
+        if (pendingCount == pendingFrom.length) {
+            int newLength = Math.max(INITIAL_PENDING, pendingFrom.length * 2);
+            pendingFrom = Arrays.copyOf(pendingFrom, newLength);
+            pendingTo = Arrays.copyOf(pendingTo, newLength);
+        }
+        pendingFrom[pendingCount] = v1;
+        pendingTo[pendingCount] = v2;
+        pendingCount++;
+
+        addExtra(v1, v2);
+        if (v1 != v2) addExtra(v2, v1);
+        // The rebuild costs O(V + E), so it waits until the overlay is about that large.
+        if (extraCount > (long) offsets[vertexCount] + vertexCount) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Adds a batch of edges by appending them to the buffer in one step.
+     * Unlike setEdge, edges that already exist are not looked up here;
+     * they are dropped when the buffer is merged. The next setEdge or read
+     * merges the buffer, so this suits loading many edges at once.
+     * @param from First vertex of each edge
+     * @param to Second vertex of each edge
+     * @param count Number of edges to add from the arrays
+     * @throws IndexOutOfBoundsException if any vertex index is out of bounds
+     *
+     * Time Complexity: O(k) amortized where k is count
+     */
+    @Override
+    public void setEdges(int[] from, int[] to, int count) {
+        for (int i = 0; i < count; i++) {
+            checkVertex(from[i], vertexCount);
+            checkVertex(to[i], vertexCount);
+        }
+
+        if (pendingCount + count > pendingFrom.length) {
+            int newLength = Math.max(INITIAL_PENDING, Math.max(pendingFrom.length * 2, pendingCount + count));
+            pendingFrom = Arrays.copyOf(pendingFrom, newLength);
+            pendingTo = Arrays.copyOf(pendingTo, newLength);
+        }
+        System.arraycopy(from, 0, pendingFrom, pendingCount, count);
+        System.arraycopy(to, 0, pendingTo, pendingCount, count);
+        pendingCount += count;
+        if (count > 0) {
+            uncheckedPending = true;
+        }
+    }
+
+    /**
+     * Returns a read-only view of the neighbors of a vertex.
+     * The view shares the graph's target array, so no neighbor IDs are copied,
+     * unless v has buffered neighbors; then its merged row is copied once.
+     * It reflects the graph at the time of the call.
+     * @param v The vertex to get neighbors for
+     * @return Collection of vertex IDs that are neighbors of v, in ascending order
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     *
+     * Time Complexity: O(1), O(d + p log p) if v has p buffered neighbors, plus any merge of setEdges edges
+     */
+    @Override
+    public Collection<Integer> getNeighbors(int v) {
+        checkVertex(v, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        if (extraDegree(v) == 0) {
+            return new NeighborView(targets, offsets[v], offsets[v + 1]);
+        }
+
+        int[] row = new int[degree(v)];
+        int[] size = {0};
+        forEachNeighbor(v, new IntConsumer() {
+            @Override
+            public void accept(int u) {
+                row[size[0]++] = u;
+            }
+        });
+        return new NeighborView(row, 0, row.length);
+    }
+
+    /**
+     * Calls action with every neighbor of a vertex, in ascending order,
+     * straight from the target array and the vertex's buffered neighbors.
+     * @param v The vertex to visit the neighbors of
+     * @param action Receives each neighbor ID
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     *
+     * Time Complexity: O(d) where d is the degree of v, plus O(p log p) to sort its p
+     * buffered neighbors on the first read after setEdge and any merge of setEdges edges
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        checkVertex(v, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        int[] row = targets;
+        int i = offsets[v];
+        int end = offsets[v + 1];
+        int extra = extraDegree(v);
+        int[] buffered = extra == 0 ? null : sortedExtra(v);
+        // The buffered neighbors are sorted and never in the row, so one merge pass keeps the order.
+        for (int j = 0; j < extra; j++) {
+            int u = buffered[j];
+            while (i < end && row[i] < u) {
+                action.accept(row[i++]);
+            }
+            action.accept(u);
+        }
+        while (i < end) {
+            action.accept(row[i++]);
+        }
+    }
+
+    /**
+     * Tests the neighbors of a vertex in ascending order until one matches,
+     * straight from the target array.
+     * @param v The vertex to test the neighbors of
+     * @param test Condition on a neighbor ID
+     * @return true if some neighbor matched
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     *
+     * Time Complexity: O(d) where d is the degree of v, plus O(p log p) to sort its p
+     * buffered neighbors on the first read after setEdge and any merge of setEdges edges
+     */
+    @Override
+    public boolean anyNeighbor(int v, IntPredicate test) {
+        checkVertex(v, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        int[] row = targets;
+        int i = offsets[v];
+        int end = offsets[v + 1];
+        int extra = extraDegree(v);
+        int[] buffered = extra == 0 ? null : sortedExtra(v);
+        for (int j = 0; j < extra; j++) {
+            int u = buffered[j];
+            while (i < end && row[i] < u) {
+                if (test.test(row[i++])) return true;
+            }
+            if (test.test(u)) return true;
+        }
+        while (i < end) {
+            if (test.test(row[i++])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of neighbors of a vertex.
+     * @param v The vertex
+     * @return The degree of v
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     *
+     * Time Complexity: O(1), plus any merge of setEdges edges
+     */
+    @Override
+    public int degree(int v) {
+        checkVertex(v, vertexCount);
+        if (uncheckedPending) {
+            compact();
+        }
+        return offsets[v + 1] - offsets[v] + extraDegree(v);
+    }
+
+    /**
+     * Returns the degree of every vertex, read off the row offsets and buffered neighbor counts.
+     * Any buffered neighbors that are not sorted yet are sorted first, so the graph
+     * can be read concurrently afterwards.
+     * @return Array of length size() holding the degree of every vertex
+     *
+     * Time Complexity: O(n + p log p) where n is the vertex count and p the number of
+     * unsorted buffered neighbors, plus any merge of setEdges edges
+     */
+    @Override
+    public int[] degrees() {
+        if (uncheckedPending) {
+            compact();
+        }
+        for (int i = 0; i < unsortedCount; i++) {
+            sortedExtra(unsortedVertices[i]);
+        }
+        unsortedCount = 0;
+        int[] degrees = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            degrees[v] = offsets[v + 1] - offsets[v] + extraDegree(v);
+        }
+        return degrees;
+    }
+
+    /**
+     * Returns the number of distinct edges, self-loops included.
+     * Every buffered setEdge edge is new, so it adds one to the count of the rows.
+     * @return The edge count
+     *
+     * Time Complexity: O(1), plus any merge of setEdges edges
+     */
+    @Override
+    public long edgeCount() {
+        if (uncheckedPending) {
+            compact();
+        }
+        return edgeCount + pendingCount;
+    }
+
+    /**
+     * Returns the number of edges added since the rows were last rebuilt,
+     * that is the edges read from the overlay or waiting for the next merge.
+     * @return The number of buffered edges
+     *
+     * Time Complexity: O(1)
+     */
+    public int bufferedEdgeCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Returns the degree distribution computed by the last merge, or
+     * recounted from the degrees while setEdge edges are buffered.
+     * @return Array of length maxDegree + 1 where element d counts the vertices of degree d
+     *
+     * Time Complexity: O(d) where d is the largest degree, O(n) while edges are buffered,
+     * plus any merge of setEdges edges
+     */
+    @Override
+    public int[] degreeHistogram() {
+        if (uncheckedPending) {
+            compact();
+        }
+        return pendingCount == 0 ? degreeCount.clone() : GTUGraph.super.degreeHistogram();
+    }
+
+    /**
+     * Resets the graph with a new number of vertices and no edges.
+     * @param vertexCount The new number of vertices
+     * @throws IllegalArgumentException if vertexCount is negative
+     *
+     * Time Complexity: O(n) where n is the new vertex count
+     */
+    @Override
+    public void reset(int vertexCount) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative");
+        }
+        this.vertexCount = vertexCount;
+        this.offsets = new int[vertexCount + 1];
+        this.targets = new int[0];
+        this.pendingFrom = new int[0];
+        this.pendingTo = new int[0];
+        this.pendingCount = 0;
+        this.pendingEdges = new EdgeSet();
+        this.uncheckedPending = false;
+        clearExtra();
+        updateDegreeStats();
+    }
+
+    /**
+     * Merges the buffered edges into the compressed rows.
+     * Every row is rebuilt once, so a batch of k edges costs a single O(V + E + k) pass.
+     *
+     * Time Complexity: O(V + (E + k) log d) where k is the number of buffered edges
+     */
+    private void compact() {
+        if (pendingCount == 0) return;
+
+        int[] newOffsets = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            newOffsets[v + 1] = offsets[v + 1] - offsets[v];
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            newOffsets[pendingFrom[i] + 1]++;
+            if (pendingFrom[i] != pendingTo[i]) newOffsets[pendingTo[i] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            newOffsets[v + 1] += newOffsets[v];
+        }
+
+        int[] newTargets = new int[newOffsets[vertexCount]];
+        int[] cursor = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            int degree = offsets[v + 1] - offsets[v];
+            System.arraycopy(targets, offsets[v], newTargets, newOffsets[v], degree);
+            cursor[v] = newOffsets[v] + degree;
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            int v1 = pendingFrom[i];
+            int v2 = pendingTo[i];
+            newTargets[cursor[v1]++] = v2;
+            if (v1 != v2) newTargets[cursor[v2]++] = v1;
+        }
+
+        targets = sortAndDeduplicate(vertexCount, newOffsets, newTargets);
+        offsets = newOffsets;
+        if (extraDegree != null) {
+            for (int i = 0; i < pendingCount; i++) {
+                dropExtra(pendingFrom[i]);
+                dropExtra(pendingTo[i]);
+            }
+        }
+        unsortedCount = 0;
+        extraCount = 0;
+        pendingFrom = new int[0];
+        pendingTo = new int[0];
+        pendingCount = 0;
+        pendingEdges = new EdgeSet();
+        uncheckedPending = false;
+        updateDegreeStats();
+    }
+
+    /**
+     * Drops the overlay arrays; used when the graph is rebuilt from scratch.
+     *
+     * Time Complexity: O(1)
+     */
+    private void clearExtra() {
+        extraDegree = null;
+        extraRows = null;
+        extraUnsorted = null;
+        unsortedVertices = new int[0];
+        unsortedCount = 0;
+        extraCount = 0;
+    }
+
+    /**
+     * Drops the buffered neighbors of v once they are merged into its row.
+     *
+     * Time Complexity: O(1)
+     */
+    private void dropExtra(int v) {
+        extraDegree[v] = 0;
+        extraRows[v] = null;
+        extraUnsorted[v] = false;
+    }
+
+    /**
+     * Number of buffered neighbors of v.
+     *
+     * Time Complexity: O(1)
+     */
+    private int extraDegree(int v) {
+        return extraDegree == null ? 0 : extraDegree[v];
+    }
+
+    /**
+     * Returns the buffered neighbors of v, sorting them first if setEdge
+     * appended to them since the last sort.
+     *
+     * Time Complexity: O(1), O(p log p) after an append where p is the number of buffered neighbors of v
+     */
+    private int[] sortedExtra(int v) {
+        if (extraUnsorted[v]) {
+            Arrays.sort(extraRows[v], 0, extraDegree[v]);
+            extraUnsorted[v] = false;
+        }
+        return extraRows[v];
+    }
+
+    /**
+     * Appends u to the buffered neighbors of v, unsorted.
+     * The per-vertex arrays are allocated by the first call after a reset.
+     *
+     * Time Complexity: O(1) amortized
+     */
+    private void addExtra(int v, int u) {
+        if (extraDegree == null) {
+            extraDegree = new int[vertexCount];
+            extraRows = new int[vertexCount][];
+            extraUnsorted = new boolean[vertexCount];
+        }
+        int[] row = extraRows[v];
+        int degree = extraDegree[v];
+        if (row == null || degree == row.length) {
+            row = row == null ? new int[4] : Arrays.copyOf(row, degree * 2);
+            extraRows[v] = row;
+        }
+        row[degree] = u;
+        extraDegree[v] = degree + 1;
+        extraCount++;
+
+        if (!extraUnsorted[v]) {
+            extraUnsorted[v] = true;
+            if (unsortedCount == unsortedVertices.length) {
+                unsortedVertices = Arrays.copyOf(unsortedVertices, Math.max(INITIAL_PENDING, unsortedCount * 2));
+            }
+            unsortedVertices[unsortedCount++] = v;
+        }
+    }
+
+    /**
+     * Recomputes the edge count and degree histogram from the rows.
+     * Every edge appears in two rows except a self-loop, which is found with
+     * a binary search of its own row.
+     *
+     * Time Complexity: O(V log d) where d is the largest degree
+     */
+    private void updateDegreeStats() {
+        int maxDegree = -1;
+        long selfLoops = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            maxDegree = Math.max(maxDegree, offsets[v + 1] - offsets[v]);
+            if (Arrays.binarySearch(targets, offsets[v], offsets[v + 1], v) >= 0) {
+                selfLoops++;
+            }
+        }
+
+        int[] histogram = new int[maxDegree + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            histogram[offsets[v + 1] - offsets[v]]++;
+        }
+        degreeCount = histogram;
+        edgeCount = (offsets[vertexCount] + selfLoops) / 2;
+    }
+
+    /**
+     * Sorts every row and removes repeated neighbors, shifting rows down in place.
+     * offsets is updated to the compacted layout.
+     * @param vertexCount The number of vertices
+     * @param offsets Row offsets, updated in place
+     * @param targets Neighbor IDs
+     * @return The target array trimmed to the new edge count
+     *
+     * Time Complexity: O(V + E log d) where d is the largest degree
+     */
+    private static int[] sortAndDeduplicate(int vertexCount, int[] offsets, int[] targets) {
+        int write = 0;
+        int rowStart = offsets[0];
+        for (int v = 0; v < vertexCount; v++) {
+            int rowEnd = offsets[v + 1];
+            Arrays.sort(targets, rowStart, rowEnd);
+            offsets[v] = write;
+            for (int i = rowStart; i < rowEnd; i++) {
+                if (i == rowStart || targets[i] != targets[i - 1]) {
+                    targets[write++] = targets[i];
+                }
+            }
+            rowStart = rowEnd;
+        }
+        offsets[vertexCount] = write;
+        return write == targets.length ? targets : Arrays.copyOf(targets, write);
+    }
+
+    /**
+     * Checks that a vertex ID is inside the graph.
+     * @param v The vertex ID
+     * @param vertexCount The number of vertices
+     * @throws IndexOutOfBoundsException if v is out of bounds
+     *
+     * Time Complexity: O(1)
+     */
+    private static void checkVertex(int v, int vertexCount) {
+        if (v < 0 || v >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+    }
+
+    /**
+     * Open-addressing hash set of undirected edges.
+     * An edge is stored as one long with the smaller vertex in the high half;
+     * the top bit is always set so that 0 can mark an empty slot.
+     */
+    private static class EdgeSet {
+        private long[] slots = new long[16];
+        private int size = 0;
+
+        /**
+         * Add the edge (v1, v2).
+         * @return false if the edge was already in the set.
+         *
+         * Time Complexity: O(1) expected, amortized over growing
+         */
+        boolean add(int v1, int v2) {
+            if (2 * (size + 1) > slots.length) {
+                grow();
+            }
+            if (!insert(slots, key(v1, v2))) {
+                return false;
+            }
+            size++;
+            return true;
+        }
+
+        /**
+         * Check whether the edge (v1, v2) is in the set.
+         *
+         * Time Complexity: O(1) expected
+         */
+        boolean contains(int v1, int v2) {
+            if (size == 0) return false;
+            long key = key(v1, v2);
+            int mask = slots.length - 1;
+            for (int i = hash(key) & mask; slots[i] != 0; i = (i + 1) & mask) {
+                if (slots[i] == key) return true;
+            }
+            return false;
+        }
+
+        private static long key(int v1, int v2) {
+            return Long.MIN_VALUE | ((long) Math.min(v1, v2) << 32) | Math.max(v1, v2);
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 32);
+        }
+
+        private static boolean insert(long[] table, long key) {
+            int mask = table.length - 1;
+            int i = hash(key) & mask;
+            while (table[i] != 0) {
+                if (table[i] == key) return false;
+                i = (i + 1) & mask;
+            }
+            table[i] = key;
+            return true;
+        }
+
+        private void grow() {
+            long[] larger = new long[slots.length * 2];
+            for (long key : slots) {
+                if (key != 0) insert(larger, key);
+            }
+            slots = larger;
+        }
+    }
+
+    /**
+     * First-pass sink of fromEdgeFile that counts the degree of every vertex.
+     * Counts are stored one slot to the right so a prefix sum turns them into offsets.
+     */
+    private static class DegreeCounter implements EdgeSink {
+        private int vertexCount;
+        private int[] offsets;
+
+        @Override
+        public void begin(int vertexCount) {
+            this.vertexCount = vertexCount;
+            this.offsets = new int[vertexCount + 1];
+        }
+
+        @Override
+        public void edges(int[] from, int[] to, int count) {
+            for (int i = 0; i < count; i++) {
+                int v1 = from[i];
+                int v2 = to[i];
+                checkVertex(v1, vertexCount);
+                checkVertex(v2, vertexCount);
+                offsets[v1 + 1]++;
+                if (v1 != v2) offsets[v2 + 1]++;
+            }
+        }
+    }
+
+    /**
+     * Read-only collection over one row of the target array.
+     *
+     * Time Complexity:
+     * - size: O(1)
+     * - contains: O(log d) where d is the degree
+     * - iteration: O(d)
+     */
+    private static class NeighborView extends AbstractCollection<Integer> {
+        private final int[] targets;
+        private final int start;
+        private final int end;
+
+        NeighborView(int[] targets, int start, int end) {
+            this.targets = targets;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return Arrays.binarySearch(targets, start, end, (Integer) o) >= 0;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int index = start;
+
+                @Override
+                public boolean hasNext() {
+                    return index < end;
+                }
+
+                @Override
+                public Integer next() {
+                    if (index >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return targets[index++];
+                }
+            };
+        }
+    }
+}
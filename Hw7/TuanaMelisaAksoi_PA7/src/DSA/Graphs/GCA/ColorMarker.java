@@ -0,0 +1,79 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Finds the smallest color not used by the neighbors of a vertex.
+ * The colors of the neighbors are marked in a reusable array with a
+ * per-vertex stamp, so no marks have to be cleared between vertices.
+ * The marker is passed to GTUGraph.forEachNeighbor itself, so the
+ * neighbors arrive as plain ints and nothing is allocated per vertex.
+ *
+ * A marker is not thread-safe; every thread needs its own.
+ */
+final class ColorMarker implements IntConsumer {
+    private int[] mark;
+    private int stamp;
+    private int[] colorOf;
+    private int vertex;
+
+    /**
+     * Creates a marker with no marks yet; the mark array grows on first use.
+     *
+     * Time Complexity: O(1)
+     */
+    ColorMarker() {
+        this.mark = new int[0];
+        this.stamp = 0;
+    }
+
+    /**
+     * Return the smallest color that no neighbor of v has.
+     * Uncolored neighbors (color -1) and a self-loop of v are ignored.
+     * @param graph The graph.
+     * @param v Vertex ID.
+     * @param colorOf Current color of every vertex, or -1 for an uncolored vertex.
+     * @return The smallest free color.
+     *
+     * Time Complexity: O(d) where d is the degree of v, plus the neighbor visit of the graph
+     */
+    int smallestFreeColor(GTUGraph graph, int v, int[] colorOf) {
+        // A vertex has at most n - 1 other neighbors, so it never needs more than n colors.
+        if (mark.length < graph.size() + 1) {
+            mark = new int[graph.size() + 1];
+            stamp = 0;
+        }
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+
+        this.colorOf = colorOf;
+        this.vertex = v;
+        graph.forEachNeighbor(v, this);
+        this.colorOf = null;
+
+        int color = 0;
+        while (mark[color] == stamp) {
+            color++;
+        }
+        return color;
+    }
+
+    /**
+     * Mark the color of one neighbor as used.
+     * @param u Neighbor ID.
+     *
+     * Time Complexity: O(1)
+     */
+    @Override
+    public void accept(int u) {
+        int c = colorOf[u];
+        if (c >= 0 && u != vertex) {
+            mark[c] = stamp;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.Traversal.ConnectedComponents;
+import DSA.Sorting.GTUSorter;
+
+/**
+ * Greedy graph coloring that colors every connected component on its own
+ * fork-join task. Inside a component the vertices are sorted and colored the
+ * way GreedyGCA does it. A vertex only looks at its neighbors, which are all
+ * in its own component, so the result is exactly the coloring GreedyGCA
+ * returns, and every component reuses the colors from 0 upwards.
+ *
+ * Small components are grouped until a task has TASK_SIZE vertices; a graph
+ * that is one large component is colored by a single task.
+ * The graph is only read during coloring and must not be modified concurrently.
+ */
+public class ComponentGCA implements GCAStrategy {
+    /** Number of vertices a single task colors without splitting its components further. */
+    private static final int TASK_SIZE = 1 << 12;
+
+    private GTUSorter sorter;
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a component coloring strategy that runs on the common pool.
+     * @param sorter The sorter class that will sort the vertices of each component.
+     *
+     * Time Complexity: O(1)
+     */
+    public ComponentGCA(GTUSorter sorter) {
+        this(sorter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a component coloring strategy that runs on the given pool.
+     * The sorter is called from several threads at once.
+     * @param sorter The sorter class that will sort the vertices of each component.
+     * @param pool The pool that runs the coloring tasks.
+     *
+     * Time Complexity: O(1)
+     */
+    public ComponentGCA(GTUSorter sorter, ForkJoinPool pool) {
+        this.sorter = sorter;
+        this.pool = pool;
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O((V + E) α(V)) to find the components, then O((V + E) / p)
+     * plus the sorting with p threads when no component dominates
+     */
+    @Override
+    public GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+        if (n == 0) {
+            return GCASolution.fromColors(colorOf, 0);
+        }
+
+        // Finding the components reads every row once before any thread touches the graph.
+        ConnectedComponents components = new ConnectedComponents(graph);
+        int[] degree = graph.degrees();
+
+        // firstVertex[c] is the number of vertices in components before c.
+        int count = components.count();
+        int[] firstVertex = new int[count + 1];
+        for (int c = 0; c < count; c++) {
+            firstVertex[c + 1] = firstVertex[c] + components.size(c);
+        }
+
+        int colorNum = pool.invoke(new ComponentTask(graph, components, degree, firstVertex, sorter, colorOf,
+                new MarkerPool(), 0, count));
+        return GCASolution.fromColors(colorOf, colorNum);
+    }
+
+    /**
+     * Colors components start .. end - 1 and returns the largest number of
+     * colors any of them needed.
+     */
+    private static class ComponentTask extends RecursiveTask<Integer> {
+        private final GTUGraph graph;
+        private final ConnectedComponents components;
+        private final int[] degree;
+        private final int[] firstVertex;
+        private final GTUSorter sorter;
+        private final int[] colorOf;
+        private final MarkerPool markers;
+        private final int start;
+        private final int end;
+
+        ComponentTask(GTUGraph graph, ConnectedComponents components, int[] degree, int[] firstVertex,
+                GTUSorter sorter, int[] colorOf, MarkerPool markers, int start, int end) {
+            this.graph = graph;
+            this.components = components;
+            this.degree = degree;
+            this.firstVertex = firstVertex;
+            this.sorter = sorter;
+            this.colorOf = colorOf;
+            this.markers = markers;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (end - start > 1 && firstVertex[end] - firstVertex[start] > TASK_SIZE) {
+                int mid = (start + end) >>> 1;
+                ComponentTask left = new ComponentTask(graph, components, degree, firstVertex, sorter, colorOf, markers, start, mid);
+                ComponentTask right = new ComponentTask(graph, components, degree, firstVertex, sorter, colorOf, markers, mid, end);
+                left.fork();
+                int rightColors = right.compute();
+                return Math.max(left.join(), rightColors);
+            }
+
+            ColorMarker marker = markers.take();
+            int colorNum = 0;
+            for (int c = start; c < end; c++) {
+                int[] vertices = components.vertices(c);
+                if (vertices.length == 1) {
+                    colorOf[vertices[0]] = 0;
+                    colorNum = Math.max(colorNum, 1);
+                    continue;
+                }
+
+                // Largest ID first, like GreedyGCA, so ties are broken the same way.
+                for (int i = 0, j = vertices.length - 1; i < j; i++, j--) {
+                    int temp = vertices[i];
+                    vertices[i] = vertices[j];
+                    vertices[j] = temp;
+                }
+                int[] order = GreedyGCA.sortByDegree(vertices, degree, sorter);
+                colorNum = Math.max(colorNum, GreedyGCA.firstFit(graph, order, colorOf, marker));
+            }
+            markers.release(marker);
+            return colorNum;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * DSatur graph coloring.
+ * Always colors next the uncolored vertex whose neighbors already use the most
+ * distinct colors (its saturation), breaking ties by degree and then by ID,
+ * and gives it the smallest color not used by its neighbors.
+ * Usually needs fewer colors than a fixed-order greedy pass.
+ */
+public class DSaturGCA implements GCAStrategy {
+    /**
+     * Creates a DSatur coloring strategy.
+     *
+     * Time Complexity: O(1)
+     */
+    public DSaturGCA() {
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O((V + E) log V)
+     */
+    @Override
+    public GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+        int[] degree = graph.degrees();
+
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+        int[] saturation = new int[n];
+        NeighborColors seen = new NeighborColors(degree);
+        VertexHeap heap = new VertexHeap(saturation, degree);
+
+        ColorMarker marker = new ColorMarker();
+        SaturationUpdate update = new SaturationUpdate(colorOf, saturation, seen, heap);
+        int colorNum = 0;
+        for (int i = 0; i < n; i++) {
+            int v = heap.poll();
+
+            // Smallest color not used by any neighbor.
+            int color = marker.smallestFreeColor(graph, v, colorOf);
+            colorOf[v] = color;
+            if (color == colorNum) {
+                colorNum++;
+            }
+
+            // Uncolored neighbors that did not see this color yet become more saturated.
+            update.color = color;
+            graph.forEachNeighbor(v, update);
+        }
+
+        return GCASolution.fromColors(colorOf, colorNum);
+    }
+
+    /**
+     * Visits the neighbors of a vertex that was just given a color and raises
+     * the saturation of every uncolored one that did not see that color yet.
+     */
+    private static class SaturationUpdate implements IntConsumer {
+        private final int[] colorOf;
+        private final int[] saturation;
+        private final NeighborColors seen;
+        private final VertexHeap heap;
+        private int color;
+
+        SaturationUpdate(int[] colorOf, int[] saturation, NeighborColors seen, VertexHeap heap) {
+            this.colorOf = colorOf;
+            this.saturation = saturation;
+            this.seen = seen;
+            this.heap = heap;
+        }
+
+        @Override
+        public void accept(int u) {
+            if (colorOf[u] < 0 && seen.add(u, color)) {
+                saturation[u]++;
+                heap.increased(u);
+            }
+        }
+    }
+
+    /**
+     * For every vertex, the set of distinct colors among its colored neighbors.
+     * Each vertex owns an open-addressing hash table of at least degree + 1 slots
+     * inside one shared array, so the total size is O(V + E).
+     */
+    private static class NeighborColors {
+        private final int[] offset;
+        private final int[] mask;
+        private final int[] slots;
+
+        NeighborColors(int[] degree) {
+            int n = degree.length;
+            offset = new int[n];
+            mask = new int[n];
+            long total = 0;
+            for (int v = 0; v < n; v++) {
+                int size = degree[v] == 0 ? 0 : Integer.highestOneBit(degree[v]) << 1;
+                offset[v] = (int) total;
+                mask[v] = size - 1;
+                total += size;
+            }
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Graph too large for DSatur");
+            }
+            slots = new int[(int) total];
+        }
+
+        /**
+         * Add color c to the set of vertex v.
+         * @return true if c was not in the set yet.
+         *
+         * Time Complexity: O(1) expected
+         */
+        boolean add(int v, int c) {
+            int base = offset[v];
+            int m = mask[v];
+            int key = c + 1;
+            int i = (c * 0x9E3779B9) & m;
+            while (slots[base + i] != 0) {
+                if (slots[base + i] == key) {
+                    return false;
+                }
+                i = (i + 1) & m;
+            }
+            slots[base + i] = key;
+            return true;
+        }
+    }
+
+    /**
+     * Indexed binary max-heap of uncolored vertices ordered by
+     * (saturation, degree, smaller ID first). Keys only ever grow.
+     */
+    private static class VertexHeap {
+        private final int[] saturation;
+        private final int[] degree;
+        private final int[] heap;
+        private final int[] position;
+        private int size;
+
+        VertexHeap(int[] saturation, int[] degree) {
+            this.saturation = saturation;
+            this.degree = degree;
+            int n = degree.length;
+            heap = new int[n];
+            position = new int[n];
+            for (int v = 0; v < n; v++) {
+                heap[v] = v;
+                position[v] = v;
+            }
+            size = n;
+            for (int i = n / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        /**
+         * Remove and return the vertex with the highest priority.
+         *
+         * Time Complexity: O(log V)
+         */
+        int poll() {
+            int top = heap[0];
+            size--;
+            if (size > 0) {
+                move(heap[size], 0);
+                siftDown(0);
+            }
+            position[top] = -1;
+            return top;
+        }
+
+        /**
+         * Restore the heap after the key of v grew.
+         *
+         * Time Complexity: O(log V)
+         */
+        void increased(int v) {
+            siftUp(position[v]);
+        }
+
+        private boolean before(int a, int b) {
+            if (saturation[a] != saturation[b]) return saturation[a] > saturation[b];
+            if (degree[a] != degree[b]) return degree[a] > degree[b];
+            return a < b;
+        }
+
+        private void move(int v, int i) {
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void siftUp(int i) {
+            int v = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(v, heap[parent])) break;
+                move(heap[parent], i);
+                i = parent;
+            }
+            move(v, i);
+        }
+
+        private void siftDown(int i) {
+            int v = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+                if (!before(heap[child], v)) break;
+                move(heap[child], i);
+                i = child;
+            }
+            move(v, i);
+        }
+    }
+}
@@ -1,33 +1,83 @@
 package DSA.Graphs.GCA;
 
-import java.io.FileWriter;
-import java.util.ArrayList;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import DSA.Graphs.MatrixGraph.AdjacencyVect;
+import DSA.IO.NumberWriter;
 
 /**
  * Represents a solution to the graph coloring problem.
  * Maintains a list of color assignments for each vertex in the graph.
  * Provides methods to manipulate and save the coloring solution.
+ *
+ * The color of every vertex is kept in a single int array, so the solution
+ * needs O(V) memory regardless of the number of colors. The vertex lists per
+ * color are built with a counting sort the first time they are asked for
+ * and rebuilt only after a color changes.
  */
 public class GCASolution {
-    private List<Collection<Integer>> colors;
+    private int[] colorOf;
+    private int colorCount;
     private int vNum;
 
+    private int[] bucketStart;
+    private int[] bucketVertices;
+    private boolean bucketsValid;
+
     public GCASolution(int vNum) {
-        colors = new ArrayList<>();
         this.vNum = vNum;
+        this.colorOf = new int[vNum];
+        Arrays.fill(colorOf, -1);
+        this.colorCount = 0;
+        this.bucketsValid = false;
+    }
+
+    /**
+     * Build a solution from a color per vertex.
+     * @param colorOf Color ID of every vertex, or -1 for an uncolored vertex.
+     * @param colorNum Number of colors used.
+     * @return The solution.
+     *
+     * Time Complexity: O(V)
+     */
+    static GCASolution fromColors(int[] colorOf, int colorNum) {
+        GCASolution solution = new GCASolution(0);
+        solution.vNum = colorOf.length;
+        solution.colorOf = colorOf.clone();
+        solution.colorCount = colorNum;
+        return solution;
     }
 
     /**
-     * Assign vertex v to color c.
+     * Assign vertex v to color c, replacing any color it had before.
      * @param v Vertex ID.
      * @param c Color ID.
+     * @throws IndexOutOfBoundsException if v or c is out of bounds.
      */
     public void setColor(int v, int c) {
-        colors.get(c).add(v);
+        if (c < 0 || c >= colorCount) {
+            throw new IndexOutOfBoundsException("Color index out of bounds: " + c);
+        }
+        if (v < 0 || v >= vNum) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+        if (colorOf[v] != c) {
+            colorOf[v] = c;
+            bucketsValid = false;
+        }
+    }
+
+    /**
+     * Get the color of vertex v.
+     * @param v Vertex ID.
+     * @return Color ID, or -1 if v has no color yet.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int getColor(int v) {
+        return colorOf[v];
     }
 
     /**
@@ -35,8 +85,9 @@ public class GCASolution {
      * @return new color ID.
      */
     public Integer addColor() {
-        colors.add(new AdjacencyVect(vNum));
-        return colors.size() - 1;
+        colorCount++;
+        bucketsValid = false;
+        return colorCount - 1;
     }
 
     /**
@@ -44,16 +95,51 @@ public class GCASolution {
      * @return number of colors.
      */
     public Integer colorNum() {
-        return colors.size();
+        return colorCount;
     }
 
     /**
-     * Get a collection containing all vertices assigned to color c. 
+     * Get a collection containing all vertices assigned to color c.
+     * The collection is a read-only view in ascending vertex order and
+     * reflects the solution at the time of the call.
      * @param c color ID.
      * @return collection of vertex IDs.
+     * @throws IndexOutOfBoundsException if c is out of bounds.
      */
     public Collection<Integer> getColorVertices(int c) {
-        return colors.get(c);
+        if (c < 0 || c >= colorCount) {
+            throw new IndexOutOfBoundsException("Color index out of bounds: " + c);
+        }
+        buildBuckets();
+        return new ColorView(bucketVertices, bucketStart[c], bucketStart[c + 1]);
+    }
+
+    /**
+     * Group the vertices by color with a counting sort.
+     * Vertices stay in ascending order inside each color.
+     *
+     * Time Complexity: O(V + C) where C is the number of colors
+     */
+    private void buildBuckets() {
+        if (bucketsValid) return;
+
+        int[] start = new int[colorCount + 1];
+        for (int v = 0; v < vNum; v++) {
+            if (colorOf[v] >= 0) start[colorOf[v] + 1]++;
+        }
+        for (int c = 0; c < colorCount; c++) {
+            start[c + 1] += start[c];
+        }
+
+        int[] vertices = new int[start[colorCount]];
+        int[] cursor = Arrays.copyOf(start, colorCount);
+        for (int v = 0; v < vNum; v++) {
+            if (colorOf[v] >= 0) vertices[cursor[colorOf[v]]++] = v;
+        }
+
+        bucketStart = start;
+        bucketVertices = vertices;
+        bucketsValid = true;
     }
 
     /**
@@ -62,23 +148,69 @@ public class GCASolution {
      * @return true if successful, false otherwise.
      */
     public Boolean writeSolution(String filePath) {
-        FileWriter writer;
-        try {
-            writer = new FileWriter(filePath);
+        try (NumberWriter writer = new NumberWriter(filePath)) {
+            writer.writeLine(vNum);
+            writer.writeLine(colorCount);
 
-            writer.write(String.format("%d\n%d\n", vNum, colors.size()));
-
-            for (int i = 0; i < colorNum(); i++) {
-                for (var vertex : getColorVertices(i)) {
-                    writer.write(String.format("%d %d\n", i, vertex));
+            buildBuckets();
+            for (int i = 0; i < colorCount; i++) {
+                for (int j = bucketStart[i]; j < bucketStart[i + 1]; j++) {
+                    writer.writeLine(i, bucketVertices[j]);
                 }
             }
 
-            writer.close();
             return true;
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
             return false;
         }
     }
+
+    /**
+     * Read-only collection over the vertices of one color.
+     */
+    private static class ColorView extends AbstractCollection<Integer> {
+        private final int[] vertices;
+        private final int start;
+        private final int end;
+
+        ColorView(int[] vertices, int start, int end) {
+            this.vertices = vertices;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return Arrays.binarySearch(vertices, start, end, (Integer) o) >= 0;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int index = start;
+
+                @Override
+                public boolean hasNext() {
+                    return index < end;
+                }
+
+                @Override
+                public Integer next() {
+                    if (index >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return vertices[index++];
+                }
+            };
+        }
+    }
 }
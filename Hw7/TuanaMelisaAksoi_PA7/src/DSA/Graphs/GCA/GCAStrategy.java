@@ -0,0 +1,15 @@
+package DSA.Graphs.GCA;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * A graph coloring algorithm.
+ */
+public interface GCAStrategy {
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     */
+    GCASolution solve(GTUGraph graph);
+}
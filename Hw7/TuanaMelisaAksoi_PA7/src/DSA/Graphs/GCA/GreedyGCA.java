@@ -1,8 +1,7 @@
 package DSA.Graphs.GCA;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
 
 import DSA.Graphs.GTUGraph;
 import DSA.Sorting.GTUSorter;
@@ -10,38 +9,50 @@ import DSA.Sorting.GTUSorter;
 /**
  * A greedy graph coloring algorithm.
  */
-public class GreedyGCA {
+public class GreedyGCA implements GCAStrategy {
+    private GTUSorter sorter;
+
+    /**
+     * Creates a greedy coloring strategy that orders the vertices with the given sorter.
+     * @param sorter The sorter class that will sort the vertices.
+     *
+     * Time Complexity: O(1)
+     */
+    public GreedyGCA(GTUSorter sorter) {
+        this.sorter = sorter;
+    }
+
     /**
      * A simple vertex representation for use in the algorithm.
      */
-    private static class GreedyVertex implements Comparable<GreedyVertex> {
+    private static class GreedyVertex {
         private int id;
-        private Collection<Integer> neighbors;
+        private int degree;
 
-        public GreedyVertex(int id) {
+        public GreedyVertex(int id, int degree) {
             this.id = id;
-        }
-
-        @Override
-        public int compareTo(GreedyVertex o) {
-            if (this.neighbors.size() - o.neighbors.size() == 0) {
-                return this.id - o.id;
-            } else {
-                return this.neighbors.size() - o.neighbors.size();
-            }
+            this.degree = degree;
         }
 
         public int getID() {
             return id;
         }
 
-        public void setNeighbors(Collection<Integer> neighbors) {
-            this.neighbors = neighbors;
+        public int getDegree() {
+            return degree;
         }
+    }
 
-        public Collection<Integer> getNeighbors() {
-            return neighbors;
-        }
+    /**
+     * Return a graph coloring solution for the graph, using the sorter given at construction.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O(V + E) plus the cost of sorting the vertices
+     */
+    @Override
+    public GCASolution solve(GTUGraph graph) {
+        return solve(graph, sorter);
     }
 
     /**
@@ -49,45 +60,87 @@ public class GreedyGCA {
      * @param graph The graph to be colored.
      * @param sorter The sorter class that will sort the vertices.
      * @return A graph coloring solution.
+     *
+     * Time Complexity: O(V + E) plus the cost of sorting the vertices
      */
     public static GCASolution solve(GTUGraph graph, GTUSorter sorter) {
-        // Create a list of GreedyVertex instances.
-        GreedyVertex[] vertices = new GreedyVertex[graph.size()];
-        for (int i = 0; i < graph.size(); i++) {
-            var newVertex = new GreedyVertex(i);
-            newVertex.setNeighbors(graph.getNeighbors(i));
-            vertices[i] = newVertex;
+        // Largest ID first, so that vertices with the same degree keep that order.
+        int n = graph.size();
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = n - 1 - i;
         }
 
-        // Sort the vertices.
-        sorter.sort(vertices, new Comparator<GreedyVertex>() {
+        return firstFit(graph, sortByDegree(ids, graph.degrees(), sorter));
+    }
+
+    /**
+     * Sort vertices by degree, largest first, with the given sorter.
+     * The sort is stable, so vertices with the same degree keep their order in ids.
+     * @param ids Vertex IDs to be sorted.
+     * @param degree Degree of every vertex of the graph, indexed by vertex ID.
+     * @param sorter The sorter class that will sort the vertices.
+     * @return The vertex IDs in coloring order.
+     *
+     * Time Complexity: O(k) plus the cost of sorting k vertices, where k is the length of ids
+     */
+    static int[] sortByDegree(int[] ids, int[] degree, GTUSorter sorter) {
+        GreedyVertex[] vertices = new GreedyVertex[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            vertices[i] = new GreedyVertex(ids[i], degree[ids[i]]);
+        }
+
+        sorter.sortByKey(vertices, new ToIntFunction<GreedyVertex>() {
             @Override
-            public int compare(GreedyVertex arg0, GreedyVertex arg1) {
-                return arg1.compareTo(arg0);
+            public int applyAsInt(GreedyVertex vertex) {
+                return -vertex.getDegree();
             }
         });
 
-        // Iterate over each vertex, and assign it to the smallest available color.
-        GCASolution solution = new GCASolution(graph.size());
-        Boolean isColored;
-        for (GreedyVertex vertex : vertices) {
-            isColored = false;
-            for (int i = 0; i < solution.colorNum(); i++) {
-                // If the vertex's neighbors and the color's vertices are disjoint, assign the vertex to this color.
-                if (Collections.disjoint(solution.getColorVertices(i), vertex.getNeighbors())) {
-                    solution.setColor(vertex.getID(), i);
-                    isColored = true;
-                    break;
-                }
-            }
+        int[] order = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            order[i] = vertices[i].getID();
+        }
+        return order;
+    }
 
-            // Create a new color if no available color was found.
-            if (!isColored) {
-                Integer newColor = solution.addColor();
-                solution.setColor(vertex.getID(), newColor);
+    /**
+     * Color the vertices in the given order, giving each one the smallest
+     * color that none of its already colored neighbors has.
+     * @param graph The graph to be colored.
+     * @param order Every vertex ID exactly once, in coloring order.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O(V + E)
+     */
+    static GCASolution firstFit(GTUGraph graph, int[] order) {
+        int[] colorOf = new int[graph.size()];
+        Arrays.fill(colorOf, -1);
+        int colorNum = firstFit(graph, order, colorOf, new ColorMarker());
+        return GCASolution.fromColors(colorOf, colorNum);
+    }
+
+    /**
+     * Color the given vertices in order into a shared color array.
+     * Only the vertices in order are written, so disjoint sets of vertices
+     * without edges between them can be colored at the same time.
+     * @param graph The graph to be colored.
+     * @param order Vertex IDs in coloring order.
+     * @param colorOf Color of every vertex, -1 for the vertices that are not colored yet.
+     * @param marker Marker used to find free colors.
+     * @return The number of colors used by the vertices in order.
+     *
+     * Time Complexity: O(k + e) where k is the length of order and e the number of their edges
+     */
+    static int firstFit(GTUGraph graph, int[] order, int[] colorOf, ColorMarker marker) {
+        int colorNum = 0;
+        for (int v : order) {
+            int color = marker.smallestFreeColor(graph, v, colorOf);
+            colorOf[v] = color;
+            if (color == colorNum) {
+                colorNum++;
             }
         }
-
-        return solution;
+        return colorNum;
     }
 }
@@ -0,0 +1,291 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Keeps a graph coloring valid while edges are added to the graph.
+ * After a batch of edges is inserted, only the edges of the batch are
+ * checked; when both ends of one have the same color, the end with the
+ * smaller degree gets the smallest color none of its neighbors has. That
+ * color never clashes with a neighbor, so the repair does not spread.
+ *
+ * A repair that would need a new color first tries, for at most MAX_MOVES
+ * neighbors that are the only one with their color, to move that neighbor
+ * to another existing color and take over its old one. This bounded
+ * one-step propagation keeps the number of colors from creeping up.
+ *
+ * The work per batch depends only on the batch and the degrees of the
+ * vertices it touches, not on the graph size, except that a MatrixGraph
+ * visits the neighbors of a vertex in O(V / 64) words. Edges are inserted
+ * with setEdge, so a CsrGraph keeps them in its overlay and no repair has to
+ * wait for its rows to be rebuilt. The service is not thread-safe, and the
+ * graph must not be changed except through it.
+ */
+public class IncrementalGCA {
+    /** Number of neighbors tried for a one-step move before a new color is opened. */
+    private static final int MAX_MOVES = 4;
+
+    private final GTUGraph graph;
+    private final int[] colorOf;
+    private final int[] colorSize;
+    private int colorNum;
+
+    private final ColorMarker marker;
+    private final NeighborList neighbors;
+    private final int[] neighborColorCount;
+
+    /**
+     * Colors graph with the given strategy and starts tracking it.
+     * @param graph The graph; must not be modified except through this service.
+     * @param strategy The strategy used for the initial coloring.
+     *
+     * Time Complexity: O(V) plus the cost of the strategy
+     */
+    public IncrementalGCA(GTUGraph graph, GCAStrategy strategy) {
+        this(graph, strategy.solve(graph));
+    }
+
+    /**
+     * Starts tracking graph with an existing valid coloring.
+     * @param graph The graph; must not be modified except through this service.
+     * @param solution A coloring of every vertex of graph.
+     * @throws IllegalArgumentException if a vertex has no color.
+     *
+     * Time Complexity: O(V)
+     */
+    public IncrementalGCA(GTUGraph graph, GCASolution solution) {
+        int n = graph.size();
+        this.graph = graph;
+        this.colorOf = new int[n];
+        this.colorSize = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int c = solution.getColor(v);
+            if (c < 0) {
+                throw new IllegalArgumentException("Vertex has no color: " + v);
+            }
+            colorOf[v] = c;
+            colorSize[c]++;
+        }
+        this.colorNum = solution.colorNum();
+        this.marker = new ColorMarker();
+        this.neighbors = new NeighborList();
+        this.neighborColorCount = new int[n + 1];
+        trimColors();
+    }
+
+    /**
+     * Adds an edge and repairs the coloring if needed.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return true if the graph was modified.
+     * @throws IndexOutOfBoundsException if either vertex index is out of bounds.
+     *
+     * Time Complexity: O(d) where d is the degree of the repaired vertex
+     */
+    public Boolean setEdge(int v1, int v2) {
+        Boolean modified = graph.setEdge(v1, v2);
+        repair(v1, v2);
+        return modified;
+    }
+
+    /**
+     * Adds a batch of edges and repairs the coloring. Edge i connects from[i] and to[i].
+     * All edges are inserted before any vertex is recolored, so every repair
+     * already sees the whole batch. They are inserted one by one with setEdge
+     * rather than with the bulk setEdges, which a CsrGraph would merge into
+     * its rows, at O(V + E), on the first repair.
+     * @param from First vertex of each edge.
+     * @param to Second vertex of each edge.
+     * @param count Number of edges to add from the arrays.
+     * @return Number of vertices whose color changed.
+     * @throws IndexOutOfBoundsException if any vertex index is out of bounds; nothing is added then.
+     *
+     * Time Complexity: O(k log d + sum of d) where k is count and d the degrees of the touched vertices
+     */
+    public int setEdges(int[] from, int[] to, int count) {
+        int n = graph.size();
+        for (int i = 0; i < count; i++) {
+            if (from[i] < 0 || from[i] >= n || to[i] < 0 || to[i] >= n) {
+                throw new IndexOutOfBoundsException("Vertex index out of bounds");
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            graph.setEdge(from[i], to[i]);
+        }
+        int recolored = 0;
+        for (int i = 0; i < count; i++) {
+            recolored += repair(from[i], to[i]);
+        }
+        return recolored;
+    }
+
+    /**
+     * Get the color of vertex v.
+     * @param v Vertex ID.
+     * @return Color ID.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int getColor(int v) {
+        return colorOf[v];
+    }
+
+    /**
+     * Get the number of colors: one more than the largest color in use.
+     * @return number of colors.
+     */
+    public int colorNum() {
+        return colorNum;
+    }
+
+    /**
+     * Get the graph this service keeps colored.
+     * @return The graph.
+     */
+    public GTUGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Get a snapshot of the current coloring.
+     * @return A new solution that does not change with later edges.
+     *
+     * Time Complexity: O(V)
+     */
+    public GCASolution getSolution() {
+        return GCASolution.fromColors(colorOf, colorNum);
+    }
+
+    /**
+     * Recolor one end of the edge (v1, v2) if both ends have the same color.
+     * @return Number of vertices whose color changed.
+     *
+     * Time Complexity: O(d) where d is the degree of the repaired vertex
+     */
+    private int repair(int v1, int v2) {
+        if (v1 == v2 || colorOf[v1] != colorOf[v2]) {
+            return 0;
+        }
+
+        // The end with fewer neighbors is cheaper to recolor and more likely to find a free color.
+        int d1 = graph.degree(v1);
+        int d2 = graph.degree(v2);
+        int v = (d1 < d2 || (d1 == d2 && v1 > v2)) ? v1 : v2;
+
+        uncolor(v);
+        int color = marker.smallestFreeColor(graph, v, colorOf);
+        if (color < colorNum) {
+            assign(v, color);
+            return 1;
+        }
+
+        int moved = moveNeighbor(v);
+        if (moved >= 0) {
+            return 2;
+        }
+        assign(v, color);
+        return 1;
+    }
+
+    /**
+     * Try to free a color for the uncolored vertex v without opening a new one:
+     * find a neighbor w that is the only neighbor with its color and that can
+     * move to another existing color, move it, and give v its old color.
+     * At most MAX_MOVES neighbors are tried.
+     * @param v An uncolored vertex.
+     * @return The neighbor that was moved, or -1 if none could be.
+     *
+     * Time Complexity: O(d + MAX_MOVES * d') where d is the degree of v and d' of the tried neighbors
+     */
+    private int moveNeighbor(int v) {
+        neighbors.size = 0;
+        graph.forEachNeighbor(v, neighbors);
+        int[] list = neighbors.values;
+        int size = neighbors.size;
+        for (int i = 0; i < size; i++) {
+            if (list[i] != v) neighborColorCount[colorOf[list[i]]]++;
+        }
+
+        int moved = -1;
+        int tries = 0;
+        for (int i = 0; i < size && tries < MAX_MOVES; i++) {
+            int w = list[i];
+            if (w == v || neighborColorCount[colorOf[w]] != 1) continue;
+            tries++;
+
+            // While v holds w's color, w has to pick a different one.
+            int oldColor = colorOf[w];
+            colorOf[v] = oldColor;
+            int newColor = marker.smallestFreeColor(graph, w, colorOf);
+            colorOf[v] = -1;
+            if (newColor < colorNum) {
+                uncolor(w);
+                assign(w, newColor);
+                assign(v, oldColor);
+                moved = w;
+                break;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (list[i] != v) neighborColorCount[colorOf[list[i]]] = 0;
+        }
+        // The moved neighbor's old color was counted before the move.
+        if (moved >= 0) neighborColorCount[colorOf[v]] = 0;
+        return moved;
+    }
+
+    /**
+     * Remove the color of v, lowering colorNum if its color becomes unused.
+     *
+     * Time Complexity: O(1) amortized
+     */
+    private void uncolor(int v) {
+        colorSize[colorOf[v]]--;
+        colorOf[v] = -1;
+        trimColors();
+    }
+
+    /**
+     * Give the uncolored vertex v color c, raising colorNum if needed.
+     *
+     * Time Complexity: O(1)
+     */
+    private void assign(int v, int c) {
+        colorOf[v] = c;
+        colorSize[c]++;
+        if (c >= colorNum) {
+            colorNum = c + 1;
+        }
+    }
+
+    /**
+     * Drop unused colors from the top so colorNum is one more than the largest color in use.
+     *
+     * Time Complexity: O(1) amortized
+     */
+    private void trimColors() {
+        while (colorNum > 0 && colorSize[colorNum - 1] == 0) {
+            colorNum--;
+        }
+    }
+
+    /**
+     * Growable int buffer that collects the neighbors it is given.
+     */
+    private static class NeighborList implements IntConsumer {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        @Override
+        public void accept(int u) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = u;
+        }
+    }
+}
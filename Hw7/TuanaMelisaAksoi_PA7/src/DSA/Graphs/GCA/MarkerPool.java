@@ -0,0 +1,34 @@
+package DSA.Graphs.GCA;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Color markers shared by the tasks of one parallel coloring call.
+ * A task takes a marker for as long as it colors and then gives it back, so
+ * a call creates at most one marker per task running at the same time and
+ * all of them can be collected once the call returns.
+ */
+final class MarkerPool {
+    private final ConcurrentLinkedQueue<ColorMarker> idle = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Take a marker no other task is using, creating one if none is idle.
+     * @return A marker owned by the caller until it is released.
+     *
+     * Time Complexity: O(1)
+     */
+    ColorMarker take() {
+        ColorMarker marker = idle.poll();
+        return marker != null ? marker : new ColorMarker();
+    }
+
+    /**
+     * Give back a marker taken from this pool.
+     * @param marker The marker; the caller must not use it afterwards.
+     *
+     * Time Complexity: O(1)
+     */
+    void release(ColorMarker marker) {
+        idle.offer(marker);
+    }
+}
@@ -0,0 +1,187 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Multi-threaded speculative graph coloring.
+ * Every round colors the remaining vertices in parallel, each worker giving
+ * a vertex the smallest color not used by its neighbors as far as it can see.
+ * Two neighbors colored at the same time may pick the same color, so a second
+ * parallel pass finds these conflicts and the vertex with the larger ID of
+ * each conflicting pair is colored again in the next round. The smallest
+ * vertex of every conflict keeps its color, so the rounds always end.
+ *
+ * The graph is only read during coloring and must not be modified concurrently.
+ */
+public class ParallelGCA implements GCAStrategy {
+    /** Number of vertices a single task colors or checks without splitting. */
+    private static final int TASK_SIZE = 1 << 10;
+
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a parallel coloring strategy that runs on the common pool.
+     *
+     * Time Complexity: O(1)
+     */
+    public ParallelGCA() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel coloring strategy that runs on the given pool.
+     * @param pool The pool that runs the coloring tasks.
+     *
+     * Time Complexity: O(1)
+     */
+    public ParallelGCA(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O((V + E) / p) per round with p threads; few rounds are needed in practice
+     */
+    @Override
+    public GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+        boolean[] conflict = new boolean[n];
+
+        // Start with the largest degrees first, like Welsh-Powell. Computing the
+        // order also reads every row once before any thread touches the graph.
+        int[] worklist = WelshPowellGCA.degreeOrder(graph);
+        int size = n;
+        MarkerPool markers = new MarkerPool();
+
+        while (size > 0) {
+            pool.invoke(new ColorTask(graph, worklist, 0, size, colorOf, markers));
+            pool.invoke(new ConflictTask(graph, worklist, 0, size, colorOf, conflict));
+
+            // Keep only the vertices that lost a conflict.
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int v = worklist[i];
+                if (conflict[v]) {
+                    conflict[v] = false;
+                    worklist[next++] = v;
+                }
+            }
+            size = next;
+        }
+
+        int colorNum = 0;
+        for (int v = 0; v < n; v++) {
+            colorNum = Math.max(colorNum, colorOf[v] + 1);
+        }
+        return GCASolution.fromColors(colorOf, colorNum);
+    }
+
+    /**
+     * Tentatively colors worklist[start] .. worklist[end - 1].
+     */
+    private static class ColorTask extends RecursiveAction {
+        private final GTUGraph graph;
+        private final int[] worklist;
+        private final int start;
+        private final int end;
+        private final int[] colorOf;
+        private final MarkerPool markers;
+
+        ColorTask(GTUGraph graph, int[] worklist, int start, int end, int[] colorOf, MarkerPool markers) {
+            this.graph = graph;
+            this.worklist = worklist;
+            this.start = start;
+            this.end = end;
+            this.colorOf = colorOf;
+            this.markers = markers;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > TASK_SIZE) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new ColorTask(graph, worklist, start, mid, colorOf, markers),
+                        new ColorTask(graph, worklist, mid, end, colorOf, markers));
+                return;
+            }
+
+            // A vertex may still hold its color from the last round; the marker ignores self-loops.
+            ColorMarker marker = markers.take();
+            for (int i = start; i < end; i++) {
+                int v = worklist[i];
+                colorOf[v] = marker.smallestFreeColor(graph, v, colorOf);
+            }
+            markers.release(marker);
+        }
+    }
+
+    /**
+     * Flags every vertex in worklist[start] .. worklist[end - 1] that shares
+     * its color with a smaller neighbor.
+     */
+    private static class ConflictTask extends RecursiveAction {
+        private final GTUGraph graph;
+        private final int[] worklist;
+        private final int start;
+        private final int end;
+        private final int[] colorOf;
+        private final boolean[] conflict;
+
+        ConflictTask(GTUGraph graph, int[] worklist, int start, int end, int[] colorOf, boolean[] conflict) {
+            this.graph = graph;
+            this.worklist = worklist;
+            this.start = start;
+            this.end = end;
+            this.colorOf = colorOf;
+            this.conflict = conflict;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > TASK_SIZE) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new ConflictTask(graph, worklist, start, mid, colorOf, conflict),
+                        new ConflictTask(graph, worklist, mid, end, colorOf, conflict));
+                return;
+            }
+
+            // One test per leaf task, so the scan boxes nothing and allocates once.
+            SmallerNeighborTest smallerNeighbor = new SmallerNeighborTest(colorOf);
+            for (int i = start; i < end; i++) {
+                int v = worklist[i];
+                smallerNeighbor.vertex = v;
+                if (graph.anyNeighbor(v, smallerNeighbor)) {
+                    conflict[v] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Conflict test of one neighbor: matches a smaller neighbor with the same
+     * color as vertex, so the scan of a row stops at the first conflict.
+     */
+    private static class SmallerNeighborTest implements IntPredicate {
+        private final int[] colorOf;
+        private int vertex;
+
+        SmallerNeighborTest(int[] colorOf) {
+            this.colorOf = colorOf;
+        }
+
+        @Override
+        public boolean test(int u) {
+            return u < vertex && colorOf[u] == colorOf[vertex];
+        }
+    }
+}
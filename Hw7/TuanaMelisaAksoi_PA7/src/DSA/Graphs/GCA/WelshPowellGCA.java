@@ -0,0 +1,58 @@
+package DSA.Graphs.GCA;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Welsh-Powell graph coloring.
+ * Vertices are taken in order of decreasing degree. The classic algorithm
+ * sweeps that list once per color, but the result is the same as giving every
+ * vertex, in list order, the smallest color not used by its neighbors, so this
+ * implementation does a single first-fit pass instead.
+ */
+public class WelshPowellGCA implements GCAStrategy {
+    /**
+     * Creates a Welsh-Powell coloring strategy.
+     *
+     * Time Complexity: O(1)
+     */
+    public WelshPowellGCA() {
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     *
+     * Time Complexity: O(V + E)
+     */
+    @Override
+    public GCASolution solve(GTUGraph graph) {
+        return GreedyGCA.firstFit(graph, degreeOrder(graph));
+    }
+
+    /**
+     * Order the vertices by decreasing degree, ties by increasing ID.
+     * Degrees are bounded by the vertex count, so a counting sort is used.
+     * @param graph The graph.
+     * @return Vertex IDs in coloring order.
+     *
+     * Time Complexity: O(V)
+     */
+    static int[] degreeOrder(GTUGraph graph) {
+        int n = graph.size();
+        int[] degree = graph.degrees();
+        int[] start = new int[n + 2];
+        for (int v = 0; v < n; v++) {
+            start[n - degree[v] + 1]++;
+        }
+        for (int i = 0; i <= n; i++) {
+            start[i + 1] += start[i];
+        }
+
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            order[start[n - degree[v]]++] = v;
+        }
+        return order;
+    }
+}
@@ -1,11 +1,15 @@
 package DSA.Graphs;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.util.Collection;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 import DSA.Graphs.GTUGraph;
+import DSA.IO.EdgeFileReader;
+import DSA.IO.EdgeSink;
+import DSA.IO.GraphSnapshot;
+import DSA.IO.NumberWriter;
 
 /**
  * A simple graph with basic operations.
@@ -15,10 +19,23 @@ public interface GTUGraph {
      * Adds an edge between vertices v1 and v2.
      * @param v1 First vertex ID.
      * @param v2 Second vertex ID.
-     * 
+     * @return true if the edge was not in the graph yet, false otherwise.
      */
     Boolean setEdge(int v1, int v2);
 
+    /**
+     * Adds a batch of edges. Edge i connects from[i] and to[i].
+     * Implementations may override this with a cheaper bulk insert.
+     * @param from First vertex of each edge.
+     * @param to Second vertex of each edge.
+     * @param count Number of edges to add from the arrays.
+     */
+    default void setEdges(int[] from, int[] to, int count) {
+        for (int i = 0; i < count; i++) {
+            setEdge(from[i], to[i]);
+        }
+    }
+
     /**
      * Checks if an edge exists between vertices v1 and v2.
      * @param v1 First vertex ID.
@@ -34,12 +51,96 @@ public interface GTUGraph {
      */
     Collection<Integer> getNeighbors(int v);
 
+    /**
+     * Call action with every neighbor of vertex v, in ascending order.
+     * Implementations override this to pass the IDs as plain ints, so
+     * the inner loops of graph algorithms do not box every neighbor.
+     * @param v Vertex ID.
+     * @param action Receives each neighbor ID.
+     */
+    default void forEachNeighbor(int v, IntConsumer action) {
+        for (int u : getNeighbors(v)) {
+            action.accept(u);
+        }
+    }
+
+    /**
+     * Test the neighbors of vertex v in ascending order until one matches.
+     * Unlike forEachNeighbor the visit stops at the first match, and
+     * implementations override this to pass the IDs as plain ints.
+     * @param v Vertex ID.
+     * @param test Condition on a neighbor ID.
+     * @return true if some neighbor matched.
+     */
+    default boolean anyNeighbor(int v, IntPredicate test) {
+        for (int u : getNeighbors(v)) {
+            if (test.test(u)) return true;
+        }
+        return false;
+    }
+
     /**
      * Size of the graph.
      * @return Size of the graph as an integer.
      */
     int size();
 
+    /**
+     * Number of neighbors of vertex v. A self-loop counts once.
+     * Implementations that track degrees override this with an O(1) lookup.
+     * @param v Vertex ID.
+     * @return The degree of v.
+     */
+    default int degree(int v) {
+        return getNeighbors(v).size();
+    }
+
+    /**
+     * Degrees of all vertices in one array, indexed by vertex ID.
+     * The array is a copy and may be modified by the caller.
+     * @return Array of length size() holding the degree of every vertex.
+     */
+    default int[] degrees() {
+        int[] degrees = new int[size()];
+        for (int v = 0; v < degrees.length; v++) {
+            degrees[v] = degree(v);
+        }
+        return degrees;
+    }
+
+    /**
+     * Number of distinct undirected edges, self-loops included.
+     * @return The edge count.
+     */
+    default long edgeCount() {
+        long count = 0;
+        for (int v = 0; v < size(); v++) {
+            for (int u : getNeighbors(v)) {
+                if (u >= v) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Degree distribution of the graph: element d is the number of vertices
+     * with degree d. The last element belongs to the largest degree, so the
+     * array has length maxDegree + 1 (and length 0 for a graph without vertices).
+     * @return The degree histogram, a copy the caller may modify.
+     */
+    default int[] degreeHistogram() {
+        int[] degrees = degrees();
+        int maxDegree = -1;
+        for (int d : degrees) {
+            maxDegree = Math.max(maxDegree, d);
+        }
+        int[] histogram = new int[maxDegree + 1];
+        for (int d : degrees) {
+            histogram[d]++;
+        }
+        return histogram;
+    }
+
     /**
      * Reset the graph.
      * 
@@ -54,22 +155,17 @@ public interface GTUGraph {
      */
     static void readGraph(String filePath, GTUGraph graph) {
         try {
-            File file = new File(filePath);
-            Scanner scanner = new Scanner(file);
-
-            Integer size = Integer.parseInt(scanner.nextLine().strip());
-            graph.reset(size);
-    
-            String line[];
-            while (scanner.hasNextLine()) {
-                line = scanner.nextLine().strip().split(" ");
-                Integer v1 = Integer.parseInt(line[0]);
-                Integer v2 = Integer.parseInt(line[1]);
-    
-                graph.setEdge(v1, v2);
-            }
-    
-            scanner.close();
+            EdgeFileReader.read(filePath, new EdgeSink() {
+                @Override
+                public void begin(int vertexCount) {
+                    graph.reset(vertexCount);
+                }
+
+                @Override
+                public void edges(int[] from, int[] to, int count) {
+                    graph.setEdges(from, to, count);
+                }
+            });
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
             return;
@@ -78,30 +174,84 @@ public interface GTUGraph {
 
 
     /**
-     * Write the information of the given graph to a file.
+     * Reinitialize graph using the information in the given file, parsing it in parallel.
+     * The file is split into ranges of whole lines that are parsed on pool;
+     * the edges are then added to graph from the calling thread.
      * @param filePath path to the file.
      * @param graph graph instance.
+     * @param pool pool that runs the parsing tasks.
      */
-    static void writeGraph(String filePath, GTUGraph graph) {
+    static void readGraph(String filePath, GTUGraph graph, ForkJoinPool pool) {
         try {
-            File file = new File(filePath);
-            FileWriter writer = new FileWriter(file);
+            EdgeFileReader.readParallel(filePath, new EdgeSink() {
+                @Override
+                public void begin(int vertexCount) {
+                    graph.reset(vertexCount);
+                }
+
+                @Override
+                public void edges(int[] from, int[] to, int count) {
+                    graph.setEdges(from, to, count);
+                }
+            }, pool);
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+            return;
+        }
+    }
 
-            writer.write(Integer.toString(graph.size()) + "\n");
+
+    /**
+     * Write the information of the given graph to a file.
+     * @param filePath path to the file.
+     * @param graph graph instance.
+     */
+    static void writeGraph(String filePath, GTUGraph graph) {
+        try (NumberWriter writer = new NumberWriter(filePath)) {
+            writer.writeLine(graph.size());
 
             for (int i = 0; i < graph.size(); i++) {
-                for (var vertex : graph.getNeighbors(i)) {
+                for (int vertex : graph.getNeighbors(i)) {
                     if (i < vertex) {
-                        writer.write(String.format("%d %d\n", i, vertex));
+                        writer.writeLine(i, vertex);
                     }
                 }
             }
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+            return;
+        }
+    }
+
 
-            writer.close();
+    /**
+     * Reinitialize graph from a binary snapshot written by writeBinary.
+     * @param filePath path to the file.
+     * @param graph graph instance.
+     */
+    static void readBinary(String filePath, GTUGraph graph) {
+        try {
+            GraphSnapshot.read(filePath, graph);
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
             return;
         }
     }
-}
 
+
+    /**
+     * Write the given graph to a file as a binary snapshot.
+     * The snapshot stores each vertex's sorted neighbor list as varint gaps
+     * and is much faster to reload than the text format.
+     * @param filePath path to the file.
+     * @param graph graph instance.
+     */
+    static void writeBinary(String filePath, GTUGraph graph) {
+        try {
+            GraphSnapshot.write(filePath, graph);
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+            return;
+        }
+    }
+}
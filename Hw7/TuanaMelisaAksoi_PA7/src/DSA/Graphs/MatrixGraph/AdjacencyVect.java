@@ -1,15 +1,22 @@
 package DSA.Graphs.MatrixGraph;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * A specialized collection implementation for storing adjacency information in a graph.
- * Uses a boolean array to efficiently store vertex connections.
+ * Uses a bitset of 64-bit words to store vertex connections, so each vertex
+ * costs a single bit and set operations between two vectors run a word at a time.
  */
 public class AdjacencyVect implements Collection<Integer>{
-    private boolean[] data; 
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 64;
+
+    private long[] words; 
     private int capacity;  
     private int size;
 
@@ -17,12 +24,12 @@ public class AdjacencyVect implements Collection<Integer>{
      * Creates a new AdjacencyVect with the specified capacity.
      * @param capacity The maximum number of vertices that can be stored
      * 
-     * Time Complexity: O(1)
+     * Time Complexity: O(n / 64) where n is the capacity
      */
     public AdjacencyVect(int capacity){
         this.capacity = capacity;
         this.size = 0;
-        this.data = new boolean[capacity];
+        this.words = new long[(capacity + WORD_BITS - 1) >>> WORD_SHIFT];
     }
     
     /**
@@ -35,10 +42,12 @@ public class AdjacencyVect implements Collection<Integer>{
      */
     @Override
     public boolean add(Integer e){
-        if(e < 0 || e > capacity) throw new IndexOutOfBoundsException("Vertex index out of bounds: " + e);
+        if(e < 0 || e >= capacity) throw new IndexOutOfBoundsException("Vertex index out of bounds: " + e);
 
-        if(!data[e]){
-            data[e] = true;
+        int w = e >>> WORD_SHIFT;
+        long mask = 1L << e;
+        if((words[w] & mask) == 0){
+            words[w] |= mask;
             size++;
             return true;
         }
@@ -47,16 +56,34 @@ public class AdjacencyVect implements Collection<Integer>{
 
     /**
      * Adds all vertices from the specified collection to this collection.
+     * If c is another AdjacencyVect the union is computed a word at a time.
      * @param c The collection of vertices to add
      * @return true if this collection was modified
      * @throws NullPointerException if the specified collection is null
+     * @throws IndexOutOfBoundsException if c holds a vertex beyond this capacity
      * 
-     * Time Complexity: O(m) where m is the size of the input collection
+     * Time Complexity: O(m) where m is the size of the input collection,
+     * O(n / 64) if c is an AdjacencyVect
      */
     @Override 
     public boolean addAll(Collection<? extends Integer> c){
         if(c == null) throw new NullPointerException();
 
+        if(c instanceof AdjacencyVect){
+            AdjacencyVect other = (AdjacencyVect) c;
+            if(other.capacity > capacity && other.nextSetBit(capacity) >= 0){
+                throw new IndexOutOfBoundsException("Vertex index out of bounds: " + other.nextSetBit(capacity));
+            }
+            int n = Math.min(words.length, other.words.length);
+            int oldSize = size;
+            for(int i = 0; i < n; i++){
+                long merged = words[i] | other.words[i];
+                size += Long.bitCount(merged) - Long.bitCount(words[i]);
+                words[i] = merged;
+            }
+            return size != oldSize;
+        }
+
         boolean modified = false;
         for (Integer i: c){
             if(add(i)) modified = true;
@@ -68,13 +95,11 @@ public class AdjacencyVect implements Collection<Integer>{
     /**
      * Removes all vertices from this collection.
      * 
-     * Time Complexity: O(n) where n is the capacity
+     * Time Complexity: O(n / 64) where n is the capacity
      */
     @Override
     public void clear(){
-        for(int i = 0; i < size; i++){
-            data[i] = false;
-        }
+        Arrays.fill(words, 0L);
         size = 0;
     }
 
@@ -83,29 +108,44 @@ public class AdjacencyVect implements Collection<Integer>{
      * @param o The vertex to check for
      * @return true if the vertex is present, false otherwise
      * 
-     * Time Complexity: O(n)
+     * Time Complexity: O(1)
      */
     @Override
     public boolean contains(Object o) {
         if (o == null || !(o instanceof Integer)) {
             return false;
         }
-        Integer vertex = (Integer) o;
+        int vertex = (Integer) o;
         if (vertex < 0 || vertex >= capacity) {
             return false;
         }
-        return data[vertex];
+        return (words[vertex >>> WORD_SHIFT] & (1L << vertex)) != 0;
     }
 
     /**
      * Checks if this collection contains all vertices from the specified collection.
+     * If c is another AdjacencyVect the check is done a word at a time.
      * @param c The collection of vertices to check for
      * @return true if all vertices are present, false otherwise
      * 
-     * Time Complexity: O(m) where m is the size of the input collection
+     * Time Complexity: O(m) where m is the size of the input collection,
+     * O(n / 64) if c is an AdjacencyVect
      */
     @Override
     public boolean containsAll(Collection<?> c) {
+        if (c instanceof AdjacencyVect) {
+            AdjacencyVect other = (AdjacencyVect) c;
+            if (other.size > size) {
+                return false;
+            }
+            for (int i = 0; i < other.words.length; i++) {
+                long mine = i < words.length ? words[i] : 0L;
+                if ((other.words[i] & ~mine) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (Object o : c) {
             if (!contains(o)) return false;
         }
@@ -134,6 +174,43 @@ public class AdjacencyVect implements Collection<Integer>{
         return new AdjacencyIterator();
     }
 
+    /**
+     * Performs the given action for every vertex in ascending order.
+     * Unlike iterating the collection, no Integer objects are created.
+     * @param action The action to be performed for each vertex
+     * @throws NullPointerException if action is null
+     * 
+     * Time Complexity: O(n / 64 + k) where n is the capacity and k is the size
+     */
+    public void forEachVertex(IntConsumer action) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                action.accept((w << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Tests the vertices in ascending order until one matches, without boxing.
+     * @param test The condition to be tested for each vertex
+     * @return true if some vertex matched
+     * @throws NullPointerException if test is null
+     * 
+     * Time Complexity: O(n / 64 + k) where n is the capacity and k is the size, less when a vertex matches early
+     */
+    public boolean anyVertex(IntPredicate test) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                if (test.test((w << WORD_SHIFT) + Long.numberOfTrailingZeros(word))) return true;
+                word &= word - 1;
+            }
+        }
+        return false;
+    }
+
     /**
      * Removes the specified vertex from this collection.
      * @param o The vertex to remove
@@ -143,32 +220,32 @@ public class AdjacencyVect implements Collection<Integer>{
      */
     @Override
     public boolean remove(Object o) {
-        if (o == null) {
+        if (o == null || !(o instanceof Integer)) {
             return false;
         }
-        for (int i = 0; i < capacity; i++) {
-            if (o.equals(i)) {
-                if (i < 0 || i > capacity) {
-                    return false;
-                }
-                if (data[i]) {  
-                    data[i] = false;
-                    size--;
-                    return true;
-                }
-                return false;  
-            }
+        int vertex = (Integer) o;
+        if (vertex < 0 || vertex >= capacity) {
+            return false;
+        }
+        int w = vertex >>> WORD_SHIFT;
+        long mask = 1L << vertex;
+        if ((words[w] & mask) != 0) {
+            words[w] &= ~mask;
+            size--;
+            return true;
         }
         return false;
     }
 
     /**
      * Removes all vertices from this collection that are also in the specified collection.
+     * If c is another AdjacencyVect the difference is computed a word at a time.
      * @param c The collection of vertices to remove
      * @return true if this collection was modified
      * @throws NullPointerException if the specified collection is null
      * 
-     * Time Complexity: O(m) where m is the size of the input collection
+     * Time Complexity: O(m) where m is the size of the input collection,
+     * O(n / 64) if c is an AdjacencyVect
      */
     @Override
     public boolean removeAll(Collection<?> c){
@@ -176,6 +253,18 @@ public class AdjacencyVect implements Collection<Integer>{
             throw new NullPointerException();
         }
 
+        if (c instanceof AdjacencyVect) {
+            AdjacencyVect other = (AdjacencyVect) c;
+            int n = Math.min(words.length, other.words.length);
+            int oldSize = size;
+            for (int i = 0; i < n; i++) {
+                long kept = words[i] & ~other.words[i];
+                size -= Long.bitCount(words[i]) - Long.bitCount(kept);
+                words[i] = kept;
+            }
+            return size != oldSize;
+        }
+
         boolean modified = false;
         for (Object o : c) {
             if (remove(o)) {
@@ -187,27 +276,57 @@ public class AdjacencyVect implements Collection<Integer>{
 
     /**
      * Retains only the vertices in this collection that are also in the specified collection.
+     * If c is another AdjacencyVect the intersection is computed a word at a time.
      * @param c The collection of vertices to retain
      * @return true if this collection was modified
      * @throws NullPointerException if the specified collection is null
      * 
-     * Time Complexity: O(n) where n is the capacity
+     * Time Complexity: O(k) contains checks on c where k is the size of this collection,
+     * O(n / 64) if c is an AdjacencyVect
      */
     @Override
     public boolean retainAll(Collection<?> c) {
         if (c == null) {
             throw new NullPointerException();
         }
-        
-        boolean modified = false;
-        for (int i = 0; i < capacity; i++) {
-            if (data[i] && !c.contains(i)) {
-                data[i] = false;
+
+        int oldSize = size;
+        if (c instanceof AdjacencyVect) {
+            AdjacencyVect other = (AdjacencyVect) c;
+            for (int i = 0; i < words.length; i++) {
+                long kept = i < other.words.length ? words[i] & other.words[i] : 0L;
+                size -= Long.bitCount(words[i]) - Long.bitCount(kept);
+                words[i] = kept;
+            }
+            return size != oldSize;
+        }
+
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (!c.contains(i)) {
+                words[i >>> WORD_SHIFT] &= ~(1L << i);
                 size--;
-                modified = true;
             }
         }
-        return modified;
+        return size != oldSize;
+    }
+
+    /**
+     * Checks if this collection shares at least one vertex with another AdjacencyVect.
+     * Equivalent to {@code !Collections.disjoint(this, other)} but done a word at a time.
+     * @param other The vector to intersect with
+     * @return true if the intersection is not empty, false otherwise
+     * @throws NullPointerException if other is null
+     * 
+     * Time Complexity: O(n / 64) where n is the smaller capacity
+     */
+    public boolean intersects(AdjacencyVect other) {
+        int n = Math.min(words.length, other.words.length);
+        for (int i = 0; i < n; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -225,16 +344,14 @@ public class AdjacencyVect implements Collection<Integer>{
      * Returns an array containing all vertices in this collection.
      * @return An array containing all vertices in ascending order
      * 
-     * Time Complexity: O(n) where n is the capacity
+     * Time Complexity: O(n / 64 + k) where n is the capacity and k is the size
      */
     @Override 
     public Object[] toArray() {
         Object[] result = new Object[size];
         int index = 0;
-        for (int i = 0; i < capacity; i++) {
-            if (data[i]) {
-                result[index++] = i;
-            }
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            result[index++] = i;
         }
         return result;
     }
@@ -250,31 +367,82 @@ public class AdjacencyVect implements Collection<Integer>{
         throw new UnsupportedOperationException("Not implemented");
     }
 
+    /**
+     * Finds the first vertex at or after the given index.
+     * Zero words are skipped whole and the bit inside a word is found
+     * with Long.numberOfTrailingZeros.
+     * @param from The index to start searching from
+     * @return The next vertex, or -1 if there is none
+     * 
+     * Time Complexity: O(n / 64) worst case where n is the capacity
+     */
+    private int nextSetBit(int from) {
+        if (from >= capacity) {
+            return -1;
+        }
+        int w = from >>> WORD_SHIFT;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
     /**
      * Iterator implementation for traversing vertices in ascending order.
+     * The iterator keeps the not yet visited bits of the current word and
+     * always knows the vertex it returns next, so hasNext is a single check
+     * and a whole iteration reads every word once.
+     * Changes to the collection during the iteration may not be seen.
      * 
      * Time Complexity:
-     * - hasNext: O(n) worst case where n is the capacity
-     * - next: O(n) worst case where n is the capacity
+     * - hasNext: O(1)
+     * - next: O(1) amortized, O(n / 64 + k) for the whole iteration
      * 
      */
     private class AdjacencyIterator implements Iterator<Integer> {
-        private int index = -1; 
+        private int wordIndex;
+        private long word;
+        private int nextVertex;
+
+        AdjacencyIterator() {
+            wordIndex = 0;
+            word = words.length > 0 ? words[0] : 0L;
+            nextVertex = advance();
+        }
+
+        /**
+         * Takes the lowest remaining bit, moving to the next non-zero word if needed.
+         * @return The vertex of that bit, or -1 if there are no more vertices
+         * 
+         * Time Complexity: O(1) amortized
+         */
+        private int advance() {
+            while (word == 0) {
+                if (++wordIndex >= words.length) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+            int bit = Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            return (wordIndex << WORD_SHIFT) + bit;
+        }
 
         /**
          * Checks if there are more vertices to iterate over.
          * @return true if there are more vertices, false otherwise
          * 
-         * Time Complexity: O(n) worst case where n is the capacity
+         * Time Complexity: O(1)
          */
         @Override
         public boolean hasNext() {
-            int tempIndex = index + 1;  
-            while (tempIndex < capacity) {
-                if (data[tempIndex]) return true;
-                tempIndex++;
-            }
-            return false;
+            return nextVertex >= 0;
         }
 
         /**
@@ -282,18 +450,16 @@ public class AdjacencyVect implements Collection<Integer>{
          * @return The next vertex
          * @throws NoSuchElementException if there are no more vertices
          * 
-         * Time Complexity: O(n) worst case where n is the capacity
+         * Time Complexity: O(1) amortized
          */
         @Override
         public Integer next() {
-            if (!hasNext()) {
+            if (nextVertex < 0) {
                 throw new NoSuchElementException();
             }
-            index++;  
-            while (!data[index]){ 
-                index++;
-            }
-            return index;
+            int vertex = nextVertex;
+            nextVertex = advance();
+            return vertex;
         }
     }
 }
@@ -1,15 +1,23 @@
 package DSA.Graphs.MatrixGraph;
 
 import DSA.Graphs.GTUGraph;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * Implementation of GTUGraph interface using an adjacency matrix representation.
  * Each vertex's connections are stored in an AdjacencyVect.
+ * The edge count and the degree histogram are updated by setEdge, so they
+ * only cover edges added through the graph, not through getNeighbors.
  */
 public class MatrixGraph implements GTUGraph{
     private AdjacencyVect[] adjacencyMatrix;
     private int vertexCount;
+    private long edgeCount;
+    private int[] degreeCount;
+    private int maxDegree;
 
     /**
      * Creates an empty graph with no vertices.
@@ -19,6 +27,7 @@ public class MatrixGraph implements GTUGraph{
     public MatrixGraph() {
         this.vertexCount = 0;
         this.adjacencyMatrix = new AdjacencyVect[0];  // Empty array initially
+        resetDegrees();
     }
 
     /**
@@ -37,6 +46,7 @@ public class MatrixGraph implements GTUGraph{
         for (int i = 0; i < vertexCount; i++) {
             adjacencyMatrix[i] = new AdjacencyVect(vertexCount);
         }
+        resetDegrees();
     }
 
     /**
@@ -83,14 +93,72 @@ public class MatrixGraph implements GTUGraph{
         }
         boolean modified = false;
         if (adjacencyMatrix[v1].add(v2)) {
+            degreeIncreased(v1);
             modified = true;
         }
         if (adjacencyMatrix[v2].add(v1)) {
+            degreeIncreased(v2);
             modified = true;
         }
+        if (modified) {
+            edgeCount++;
+        }
         return modified;
     }
 
+    /**
+     * Returns the number of neighbors of a vertex.
+     * @param v The vertex
+     * @return The degree of v
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     *
+     * Time Complexity: O(1)
+     */
+    @Override
+    public int degree(int v) {
+        if (v < 0 || v >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+        return adjacencyMatrix[v].size();
+    }
+
+    /**
+     * Returns the degree of every vertex.
+     * @return Array of length size() holding the degree of every vertex
+     *
+     * Time Complexity: O(n) where n is the vertex count
+     */
+    @Override
+    public int[] degrees() {
+        int[] degrees = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            degrees[v] = adjacencyMatrix[v].size();
+        }
+        return degrees;
+    }
+
+    /**
+     * Returns the number of distinct edges added with setEdge.
+     * @return The edge count
+     *
+     * Time Complexity: O(1)
+     */
+    @Override
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Returns the degree distribution kept up to date by setEdge.
+     * @return Array of length maxDegree + 1 where element d counts the vertices of degree d
+     *
+     * Time Complexity: O(d) where d is the largest degree
+     */
+    @Override
+    public int[] degreeHistogram() {
+        return Arrays.copyOf(degreeCount, vertexCount == 0 ? 0 : maxDegree + 1);
+    }
+
     /**
      * Returns a collection of all neighbors of a vertex.
      * @param v The vertex to get neighbors for
@@ -107,6 +175,39 @@ public class MatrixGraph implements GTUGraph{
         return adjacencyMatrix[v];
     }
 
+    /**
+     * Calls action with every neighbor of a vertex, in ascending order, without boxing.
+     * @param v The vertex to visit the neighbors of
+     * @param action Receives each neighbor ID
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     * 
+     * Time Complexity: O(n / 64 + d) where n is the vertex count and d is the degree of v
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        if (v < 0 || v >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+        adjacencyMatrix[v].forEachVertex(action);
+    }
+
+    /**
+     * Tests the neighbors of a vertex in ascending order until one matches, without boxing.
+     * @param v The vertex to test the neighbors of
+     * @param test Condition on a neighbor ID
+     * @return true if some neighbor matched
+     * @throws IndexOutOfBoundsException if vertex index is out of bounds
+     * 
+     * Time Complexity: O(n / 64 + d) where n is the vertex count and d is the degree of v
+     */
+    @Override
+    public boolean anyNeighbor(int v, IntPredicate test) {
+        if (v < 0 || v >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+        return adjacencyMatrix[v].anyVertex(test);
+    }
+
     /**
      * Resets the graph with a new number of vertices.
      * @param vertexCount The new number of vertices
@@ -124,6 +225,36 @@ public class MatrixGraph implements GTUGraph{
         for (int i = 0; i < vertexCount; i++) {
             adjacencyMatrix[i] = new AdjacencyVect(vertexCount);
         }
+        resetDegrees();
+    }
+
+    /**
+     * Clears the edge count and puts every vertex in the degree 0 bucket.
+     * A vertex has at most vertexCount neighbors (with a self-loop), so the
+     * histogram never has to grow.
+     *
+     * Time Complexity: O(n) where n is the vertex count
+     */
+    private void resetDegrees() {
+        edgeCount = 0;
+        degreeCount = new int[vertexCount + 1];
+        degreeCount[0] = vertexCount;
+        maxDegree = 0;
+    }
+
+    /**
+     * Moves a vertex whose degree just grew by one to the next histogram bucket.
+     * @param v The vertex
+     *
+     * Time Complexity: O(1)
+     */
+    private void degreeIncreased(int v) {
+        int degree = adjacencyMatrix[v].size();
+        degreeCount[degree - 1]--;
+        degreeCount[degree]++;
+        if (degree > maxDegree) {
+            maxDegree = degree;
+        }
     }
 
 }
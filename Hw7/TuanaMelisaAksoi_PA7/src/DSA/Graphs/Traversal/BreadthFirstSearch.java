@@ -0,0 +1,252 @@
+package DSA.Graphs.Traversal;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Direction-optimizing breadth-first search from a single source.
+ * Each level is expanded either top-down, where every frontier vertex visits
+ * its neighbors, or bottom-up, where every unvisited vertex looks for a
+ * neighbor in the frontier and stops at the first one. Bottom-up is much
+ * cheaper once the frontier holds a large part of the remaining edges, which
+ * happens in the middle levels of small-world graphs.
+ *
+ * The frontiers are int arrays and vertices are marked by their distance,
+ * so no queue nodes or boxed IDs are created.
+ */
+public class BreadthFirstSearch {
+    /** Switch to bottom-up once the frontier has more than 1/ALPHA of the unexplored edges. */
+    private static final int ALPHA = 14;
+
+    /** Switch back to top-down once the frontier has fewer than 1/BETA of the vertices. */
+    private static final int BETA = 24;
+
+    private final int source;
+    private final int[] distance;
+    private final int[] parent;
+    private int reachedCount;
+    private int bottomUpLevels;
+
+    /**
+     * Runs a breadth-first search on graph from source.
+     * The graph must not be modified during the search.
+     * @param graph The graph.
+     * @param source Vertex ID to start from.
+     * @throws IndexOutOfBoundsException if source is out of bounds.
+     *
+     * Time Complexity: O(V + E)
+     */
+    public BreadthFirstSearch(GTUGraph graph, int source) {
+        int n = graph.size();
+        if (source < 0 || source >= n) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+        this.source = source;
+        this.distance = new int[n];
+        this.parent = new int[n];
+        Arrays.fill(distance, -1);
+        Arrays.fill(parent, -1);
+        search(graph);
+    }
+
+    /**
+     * Expand the search level by level, picking the direction of every level
+     * from the number of edges leaving the frontier.
+     * @param graph The graph.
+     *
+     * Time Complexity: O(V + E) for the top-down levels, O(V + E) per bottom-up level
+     */
+    private void search(GTUGraph graph) {
+        int n = graph.size();
+        int[] degree = graph.degrees();
+        int[] frontier = new int[n];
+        int[] next = new int[n];
+        TopDownStep topDown = new TopDownStep(distance, parent, next);
+        FrontierTest inFrontier = new FrontierTest(distance);
+
+        long unexploredEdges = 0;
+        for (int d : degree) {
+            unexploredEdges += d;
+        }
+
+        distance[source] = 0;
+        parent[source] = source;
+        frontier[0] = source;
+        int frontierSize = 1;
+        long frontierEdges = degree[source];
+        unexploredEdges -= frontierEdges;
+        reachedCount = 1;
+
+        boolean bottomUp = false;
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                bottomUp = false;
+            }
+
+            int nextSize;
+            if (bottomUp) {
+                nextSize = bottomUpStep(graph, level, next, inFrontier);
+                bottomUpLevels++;
+            } else {
+                topDown.start(level + 1);
+                for (int i = 0; i < frontierSize; i++) {
+                    topDown.from = frontier[i];
+                    graph.forEachNeighbor(frontier[i], topDown);
+                }
+                nextSize = topDown.size;
+            }
+
+            frontierEdges = 0;
+            for (int i = 0; i < nextSize; i++) {
+                frontierEdges += degree[next[i]];
+            }
+            unexploredEdges -= frontierEdges;
+            reachedCount += nextSize;
+
+            int[] temp = frontier;
+            frontier = next;
+            next = temp;
+            topDown.next = next;
+            frontierSize = nextSize;
+        }
+    }
+
+    /**
+     * Give every unvisited vertex that has a neighbor at the given level the
+     * distance level + 1. Vertices of the frontier are recognized by their
+     * distance, so the frontier does not have to be stored as a set.
+     * @param graph The graph.
+     * @param level Distance of the current frontier.
+     * @param next Receives the vertices of the next frontier.
+     * @param inFrontier Reusable test for a neighbor in the frontier.
+     * @return Number of vertices in the next frontier.
+     *
+     * Time Complexity: O(V + E) worst case, usually far less since each scan stops at the first hit
+     */
+    private int bottomUpStep(GTUGraph graph, int level, int[] next, FrontierTest inFrontier) {
+        inFrontier.level = level;
+        int size = 0;
+        for (int v = 0; v < distance.length; v++) {
+            if (distance[v] >= 0) continue;
+            if (graph.anyNeighbor(v, inFrontier)) {
+                distance[v] = level + 1;
+                parent[v] = inFrontier.found;
+                next[size++] = v;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get the source vertex of the search.
+     * @return Vertex ID.
+     */
+    public int source() {
+        return source;
+    }
+
+    /**
+     * Get the number of edges on a shortest path from the source to v.
+     * @param v Vertex ID.
+     * @return The distance, or -1 if v cannot be reached.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int distance(int v) {
+        return distance[v];
+    }
+
+    /**
+     * Get the vertex before v on a shortest path from the source.
+     * @param v Vertex ID.
+     * @return The parent of v, the source itself for the source, or -1 if v cannot be reached.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * Get the distance of every vertex from the source.
+     * @return A copy of the distances, -1 for vertices that cannot be reached.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] distances() {
+        return distance.clone();
+    }
+
+    /**
+     * Get the number of vertices reachable from the source, the source included.
+     * @return Number of reached vertices.
+     */
+    public int reachedCount() {
+        return reachedCount;
+    }
+
+    /**
+     * Get the number of levels that were expanded bottom-up.
+     * @return Number of bottom-up levels.
+     */
+    public int bottomUpLevels() {
+        return bottomUpLevels;
+    }
+
+    /**
+     * Bottom-up test of one neighbor: matches a vertex of the frontier and
+     * remembers it, so the scan of a row stops at the first frontier vertex.
+     */
+    private static class FrontierTest implements IntPredicate {
+        private final int[] distance;
+        private int level;
+        private int found;
+
+        FrontierTest(int[] distance) {
+            this.distance = distance;
+        }
+
+        @Override
+        public boolean test(int u) {
+            if (distance[u] != level) return false;
+            found = u;
+            return true;
+        }
+    }
+
+    /**
+     * Top-down expansion of one frontier vertex: every unvisited neighbor
+     * joins the next frontier.
+     */
+    private static class TopDownStep implements IntConsumer {
+        private final int[] distance;
+        private final int[] parent;
+        private int[] next;
+        private int size;
+        private int nextDistance;
+        private int from;
+
+        TopDownStep(int[] distance, int[] parent, int[] next) {
+            this.distance = distance;
+            this.parent = parent;
+            this.next = next;
+        }
+
+        void start(int nextDistance) {
+            this.nextDistance = nextDistance;
+            this.size = 0;
+        }
+
+        @Override
+        public void accept(int u) {
+            if (distance[u] < 0) {
+                distance[u] = nextDistance;
+                parent[u] = from;
+                next[size++] = u;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package DSA.Graphs.Traversal;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Connected components of a graph, found with union-find over the edges.
+ * Components are numbered 0 .. count() - 1 in order of their smallest vertex,
+ * so vertex 0 is always in component 0. The vertices of every component are
+ * grouped with a counting sort into one int array, in ascending order.
+ */
+public class ConnectedComponents {
+    private final int[] componentOf;
+    private final int[] componentStart;
+    private final int[] vertices;
+
+    /**
+     * Finds the connected components of graph.
+     * The graph must not be modified during the call.
+     * @param graph The graph.
+     *
+     * Time Complexity: O((V + E) α(V))
+     */
+    public ConnectedComponents(GTUGraph graph) {
+        int n = graph.size();
+        UnionFind sets = new UnionFind(n);
+        EdgeUnion union = new EdgeUnion(sets);
+        for (int v = 0; v < n; v++) {
+            union.from = v;
+            graph.forEachNeighbor(v, union);
+        }
+
+        // Number the components by their smallest vertex.
+        int[] idOfRoot = new int[n];
+        Arrays.fill(idOfRoot, -1);
+        componentOf = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = sets.find(v);
+            if (idOfRoot[root] < 0) {
+                idOfRoot[root] = count++;
+            }
+            componentOf[v] = idOfRoot[root];
+        }
+
+        componentStart = new int[count + 1];
+        for (int v = 0; v < n; v++) {
+            componentStart[componentOf[v] + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            componentStart[c + 1] += componentStart[c];
+        }
+        vertices = new int[n];
+        int[] cursor = Arrays.copyOf(componentStart, count);
+        for (int v = 0; v < n; v++) {
+            vertices[cursor[componentOf[v]]++] = v;
+        }
+    }
+
+    /**
+     * Get the number of components. Every isolated vertex is a component of its own.
+     * @return Number of components.
+     */
+    public int count() {
+        return componentStart.length - 1;
+    }
+
+    /**
+     * Get the component that contains v.
+     * @param v Vertex ID.
+     * @return Component ID.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int componentOf(int v) {
+        return componentOf[v];
+    }
+
+    /**
+     * Check whether there is a path between two vertices.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return true if both are in the same component.
+     * @throws IndexOutOfBoundsException if v1 or v2 is out of bounds.
+     */
+    public boolean connected(int v1, int v2) {
+        return componentOf[v1] == componentOf[v2];
+    }
+
+    /**
+     * Get the number of vertices in component c.
+     * @param c Component ID.
+     * @return Size of the component.
+     * @throws IndexOutOfBoundsException if c is out of bounds.
+     */
+    public int size(int c) {
+        if (c < 0 || c >= count()) {
+            throw new IndexOutOfBoundsException("Component index out of bounds: " + c);
+        }
+        return componentStart[c + 1] - componentStart[c];
+    }
+
+    /**
+     * Get the vertices of component c.
+     * @param c Component ID.
+     * @return A new array with the vertex IDs in ascending order.
+     * @throws IndexOutOfBoundsException if c is out of bounds.
+     *
+     * Time Complexity: O(k) where k is the size of the component
+     */
+    public int[] vertices(int c) {
+        if (c < 0 || c >= count()) {
+            throw new IndexOutOfBoundsException("Component index out of bounds: " + c);
+        }
+        return Arrays.copyOfRange(vertices, componentStart[c], componentStart[c + 1]);
+    }
+
+    /**
+     * Get the component of every vertex.
+     * @return A copy of the component IDs, indexed by vertex ID.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] componentIds() {
+        return componentOf.clone();
+    }
+
+    /**
+     * Merges the sets of a vertex and each of its larger neighbors,
+     * so every undirected edge is handled once.
+     */
+    private static class EdgeUnion implements IntConsumer {
+        private final UnionFind sets;
+        private int from;
+
+        EdgeUnion(UnionFind sets) {
+            this.sets = sets;
+        }
+
+        @Override
+        public void accept(int u) {
+            if (u > from) {
+                sets.union(from, u);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package DSA.Graphs.Traversal;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Iterative depth-first search from a single source.
+ * Visits the vertices in the same order as the recursive algorithm that
+ * takes the neighbors in ascending order, but keeps its own stack, so deep
+ * graphs such as long paths cannot overflow the call stack.
+ *
+ * When a vertex is entered its neighbor IDs are copied once into a shared
+ * int buffer; the stack frame only keeps a cursor into that buffer. The
+ * buffer holds the neighbors of the vertices on the current path only.
+ */
+public class DepthFirstSearch {
+    private final int source;
+    private final int[] parent;
+    private final int[] preorder;
+    private final int[] postorder;
+    private int reachedCount;
+
+    /**
+     * Runs a depth-first search on graph from source.
+     * The graph must not be modified during the search.
+     * @param graph The graph.
+     * @param source Vertex ID to start from.
+     * @throws IndexOutOfBoundsException if source is out of bounds.
+     *
+     * Time Complexity: O(V + E)
+     */
+    public DepthFirstSearch(GTUGraph graph, int source) {
+        int n = graph.size();
+        if (source < 0 || source >= n) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds");
+        }
+        this.source = source;
+        this.parent = new int[n];
+        Arrays.fill(parent, -1);
+
+        int[] pre = new int[n];
+        int[] post = new int[n];
+        int postCount = 0;
+
+        // Stack frame i: vertex stackVertex[i] with unread neighbors
+        // buffer[stackCursor[i]] .. buffer[stackEnd[i] - 1].
+        int[] stackVertex = new int[n];
+        int[] stackCursor = new int[n];
+        int[] stackEnd = new int[n];
+        NeighborBuffer buffer = new NeighborBuffer();
+
+        parent[source] = source;
+        pre[reachedCount++] = source;
+        graph.forEachNeighbor(source, buffer);
+        stackVertex[0] = source;
+        stackCursor[0] = 0;
+        stackEnd[0] = buffer.size;
+        int depth = 1;
+
+        while (depth > 0) {
+            int top = depth - 1;
+            if (stackCursor[top] < stackEnd[top]) {
+                int u = buffer.values[stackCursor[top]++];
+                if (parent[u] < 0) {
+                    parent[u] = stackVertex[top];
+                    pre[reachedCount++] = u;
+                    int start = buffer.size;
+                    graph.forEachNeighbor(u, buffer);
+                    stackVertex[depth] = u;
+                    stackCursor[depth] = start;
+                    stackEnd[depth] = buffer.size;
+                    depth++;
+                }
+            } else {
+                post[postCount++] = stackVertex[top];
+                depth--;
+                buffer.size = depth > 0 ? stackEnd[depth - 1] : 0;
+            }
+        }
+
+        this.preorder = Arrays.copyOf(pre, reachedCount);
+        this.postorder = Arrays.copyOf(post, postCount);
+    }
+
+    /**
+     * Get the source vertex of the search.
+     * @return Vertex ID.
+     */
+    public int source() {
+        return source;
+    }
+
+    /**
+     * Get the vertex from which v was discovered.
+     * @param v Vertex ID.
+     * @return The parent of v, the source itself for the source, or -1 if v cannot be reached.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * Check whether v can be reached from the source.
+     * @param v Vertex ID.
+     * @return true if v was visited.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public boolean isReached(int v) {
+        return parent[v] >= 0;
+    }
+
+    /**
+     * Get the number of vertices reachable from the source, the source included.
+     * @return Number of reached vertices.
+     */
+    public int reachedCount() {
+        return reachedCount;
+    }
+
+    /**
+     * Get the reached vertices in the order they were entered.
+     * @return A copy of the preorder, starting with the source.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] preorder() {
+        return preorder.clone();
+    }
+
+    /**
+     * Get the reached vertices in the order they were finished.
+     * @return A copy of the postorder, ending with the source.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] postorder() {
+        return postorder.clone();
+    }
+
+    /**
+     * Growable int buffer that appends the neighbors it is given.
+     */
+    private static class NeighborBuffer implements IntConsumer {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        @Override
+        public void accept(int u) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = u;
+        }
+    }
+}
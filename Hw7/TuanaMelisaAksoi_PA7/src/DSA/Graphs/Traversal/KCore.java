@@ -0,0 +1,172 @@
+package DSA.Graphs.Traversal;
+
+import java.util.function.IntConsumer;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * k-core decomposition by peeling (Batagelj and Zaversnik).
+ * The vertex of smallest remaining degree is removed again and again; the
+ * degree it has when it is removed is its core number. The vertices are kept
+ * sorted by remaining degree in one array with a start position per degree,
+ * so removing a vertex and lowering the degree of a neighbor are O(1) and the
+ * whole decomposition runs in O(V + E).
+ *
+ * Self-loops are ignored. The removal order is a degeneracy ordering: every
+ * vertex has at most degeneracy() neighbors that are removed after it.
+ */
+public class KCore {
+    private final int[] core;
+    private final int[] order;
+    private int degeneracy;
+
+    /**
+     * Computes the core number of every vertex of graph.
+     * The graph must not be modified during the call.
+     * @param graph The graph.
+     *
+     * Time Complexity: O(V + E)
+     */
+    public KCore(GTUGraph graph) {
+        int n = graph.size();
+        int[] degree = graph.degrees();
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            if (degree[v] > 0 && graph.getEdge(v, v)) {
+                degree[v]--;
+            }
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
+
+        // Counting sort of the vertices by degree; bin[d] is the first slot of degree d.
+        int[] bin = new int[maxDegree + 1];
+        for (int v = 0; v < n; v++) {
+            bin[degree[v]]++;
+        }
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int count = bin[d];
+            bin[d] = start;
+            start += count;
+        }
+        int[] vertices = new int[n];
+        int[] position = new int[n];
+        for (int v = 0; v < n; v++) {
+            position[v] = bin[degree[v]]++;
+            vertices[position[v]] = v;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+
+        Peeler peeler = new Peeler(degree, bin, vertices, position);
+        for (int i = 0; i < n; i++) {
+            int v = vertices[i];
+            peeler.removed = v;
+            graph.forEachNeighbor(v, peeler);
+            degeneracy = Math.max(degeneracy, degree[v]);
+        }
+
+        this.core = degree;
+        this.order = vertices;
+    }
+
+    /**
+     * Get the core number of v: the largest k such that v is in the k-core.
+     * @param v Vertex ID.
+     * @return The core number.
+     * @throws IndexOutOfBoundsException if v is out of bounds.
+     */
+    public int coreNumber(int v) {
+        return core[v];
+    }
+
+    /**
+     * Get the core number of every vertex.
+     * @return A copy of the core numbers, indexed by vertex ID.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] coreNumbers() {
+        return core.clone();
+    }
+
+    /**
+     * Get the largest core number of the graph.
+     * A greedy coloring in reverse removal order needs at most degeneracy() + 1 colors.
+     * @return The degeneracy.
+     */
+    public int degeneracy() {
+        return degeneracy;
+    }
+
+    /**
+     * Get the vertices in the order they were peeled, smallest core first.
+     * @return A copy of the removal order.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] removalOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Get the vertices of the k-core, the largest subgraph where every vertex has degree at least k.
+     * @param k The core order.
+     * @return A new array with the vertex IDs in ascending order.
+     *
+     * Time Complexity: O(V)
+     */
+    public int[] coreVertices(int k) {
+        int count = 0;
+        for (int c : core) {
+            if (c >= k) count++;
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (int v = 0; v < core.length; v++) {
+            if (core[v] >= k) result[index++] = v;
+        }
+        return result;
+    }
+
+    /**
+     * Lowers the degree of every neighbor of the removed vertex that still has
+     * a larger degree, moving it to the front of its degree block and then
+     * shifting the block boundary past it.
+     */
+    private static class Peeler implements IntConsumer {
+        private final int[] degree;
+        private final int[] bin;
+        private final int[] vertices;
+        private final int[] position;
+        private int removed;
+
+        Peeler(int[] degree, int[] bin, int[] vertices, int[] position) {
+            this.degree = degree;
+            this.bin = bin;
+            this.vertices = vertices;
+            this.position = position;
+        }
+
+        @Override
+        public void accept(int u) {
+            int du = degree[u];
+            if (du <= degree[removed]) {
+                return;
+            }
+            int pu = position[u];
+            int pw = bin[du];
+            int w = vertices[pw];
+            if (u != w) {
+                vertices[pu] = w;
+                position[w] = pu;
+                vertices[pw] = u;
+                position[u] = pw;
+            }
+            bin[du]++;
+            degree[u]--;
+        }
+    }
+}
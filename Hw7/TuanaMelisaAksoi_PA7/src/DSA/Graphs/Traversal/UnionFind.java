@@ -0,0 +1,108 @@
+package DSA.Graphs.Traversal;
+
+/**
+ * Disjoint sets over the elements 0 .. n - 1.
+ * Sets are trees stored in a parent array; union by size keeps them shallow
+ * and find halves the path it walks, so every operation costs O(α(n))
+ * amortized, which is constant for any practical n.
+ */
+public class UnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int setCount;
+
+    /**
+     * Creates n single-element sets.
+     * @param n Number of elements.
+     * @throws IllegalArgumentException if n is negative.
+     *
+     * Time Complexity: O(n)
+     */
+    public UnionFind(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Element count cannot be negative");
+        }
+        this.parent = new int[n];
+        this.size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        this.setCount = n;
+    }
+
+    /**
+     * Find the representative of the set that contains x.
+     * @param x Element.
+     * @return The representative element.
+     * @throws IndexOutOfBoundsException if x is out of bounds.
+     *
+     * Time Complexity: O(α(n)) amortized
+     */
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merge the sets that contain a and b.
+     * @param a First element.
+     * @param b Second element.
+     * @return true if the sets were different and have been merged.
+     * @throws IndexOutOfBoundsException if a or b is out of bounds.
+     *
+     * Time Complexity: O(α(n)) amortized
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int temp = rootA;
+            rootA = rootB;
+            rootB = temp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        setCount--;
+        return true;
+    }
+
+    /**
+     * Check whether a and b are in the same set.
+     * @param a First element.
+     * @param b Second element.
+     * @return true if they are in the same set.
+     * @throws IndexOutOfBoundsException if a or b is out of bounds.
+     *
+     * Time Complexity: O(α(n)) amortized
+     */
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Get the number of elements in the set that contains x.
+     * @param x Element.
+     * @return Size of the set.
+     * @throws IndexOutOfBoundsException if x is out of bounds.
+     *
+     * Time Complexity: O(α(n)) amortized
+     */
+    public int setSize(int x) {
+        return size[find(x)];
+    }
+
+    /**
+     * Get the number of disjoint sets.
+     * @return Number of sets.
+     */
+    public int setCount() {
+        return setCount;
+    }
+}
@@ -0,0 +1,369 @@
+package DSA.IO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Streaming parser for edge files.
+ * The file is memory-mapped and its ASCII integers are decoded straight from
+ * the mapped bytes, so no Strings or boxed Integers are created. Edges are
+ * handed to an EdgeSink in batches through two reused int arrays.
+ *
+ * Expected format: the vertex count on the first line, then one
+ * "v1 v2" pair per line. Numbers are separated by spaces or tabs and a line
+ * may end with "\r\n". As with the original Scanner-based reader, only the
+ * first two numbers of an edge line (and the first number of the header line)
+ * are used and the rest of the line is ignored. Blank lines are skipped.
+ */
+public class EdgeFileReader {
+    /** Number of edges delivered to the sink per call. */
+    public static final int BATCH_SIZE = 1 << 13;
+
+    /** Largest region mapped at once; files above this size are mapped in segments. */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    /** Smallest byte range worth handing to a separate parallel task. */
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+
+    /** Chunks created per pool thread, so uneven chunks still balance out. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Size of the window read while searching for a line break. */
+    private static final int SCAN_WINDOW = 1 << 12;
+
+    private final EdgeSink sink;
+    private final int[] from;
+    private final int[] to;
+    private int count;
+
+    private long value;
+    private boolean inNumber;
+    private boolean headerRead;
+    private boolean haveFirst;
+    private int first;
+    /** Whether the rest of the current line is ignored. */
+    private boolean skipLine;
+
+    /**
+     * Creates a parser that forwards everything to sink.
+     * @param sink Receiver of the header and edges.
+     *
+     * Time Complexity: O(1)
+     */
+    private EdgeFileReader(EdgeSink sink) {
+        this.sink = sink;
+        this.from = new int[BATCH_SIZE];
+        this.to = new int[BATCH_SIZE];
+    }
+
+    /**
+     * Creates a parser for a range of edge lines that starts after the header.
+     * @param sink Receiver of the edges.
+     * @return The parser.
+     *
+     * Time Complexity: O(1)
+     */
+    private static EdgeFileReader forEdgeLines(EdgeSink sink) {
+        EdgeFileReader reader = new EdgeFileReader(sink);
+        reader.headerRead = true;
+        return reader;
+    }
+
+    /**
+     * Parse an edge file and feed it to sink.
+     * @param filePath Path to the edge file.
+     * @param sink Receiver of the header and edges.
+     * @throws IOException if the file cannot be read or is malformed.
+     *
+     * Time Complexity: O(n) where n is the file size in bytes
+     */
+    public static void read(String filePath, EdgeSink sink) throws IOException {
+        EdgeFileReader reader = new EdgeFileReader(sink);
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += SEGMENT_SIZE) {
+                long length = Math.min(SEGMENT_SIZE, size - position);
+                reader.parse(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+            }
+        }
+        reader.finish();
+    }
+
+    /**
+     * Parse an edge file on several threads and feed it to sink.
+     * The edge lines are split into newline-aligned byte ranges, every range is
+     * parsed by its own task on pool into a private edge buffer, and the buffers
+     * are then passed to sink in file order from the calling thread. The sink
+     * therefore needs no synchronization and sees the same edges in the same
+     * order as with read, only in larger batches. Every buffer is dropped once
+     * the sink has it, and the tasks still queued are cancelled if anything fails.
+     * @param filePath Path to the edge file.
+     * @param sink Receiver of the header and edges.
+     * @param pool Pool that runs the parsing tasks.
+     * @throws IOException if the file cannot be read or is malformed.
+     *
+     * Time Complexity: O(n / p + E) where n is the file size in bytes and p the pool parallelism
+     */
+    public static void readParallel(String filePath, EdgeSink sink, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            // The header is the first line that is not blank.
+            HeaderReader header = new HeaderReader();
+            EdgeFileReader headerParser = new EdgeFileReader(header);
+            long bodyStart = 0;
+            while (!headerParser.headerRead && bodyStart < size) {
+                long lineEnd = nextLineStart(channel, bodyStart, size);
+                headerParser.parse(channel.map(FileChannel.MapMode.READ_ONLY, bodyStart, lineEnd - bodyStart));
+                bodyStart = lineEnd;
+            }
+            headerParser.finish();
+
+            // Split the rest into ranges that begin at a line start.
+            long bodySize = size - bodyStart;
+            long chunkCount = Math.max(1, Math.min(bodySize / MIN_CHUNK_SIZE,
+                    (long) pool.getParallelism() * CHUNKS_PER_THREAD));
+            long chunkSize = Math.min(SEGMENT_SIZE, (bodySize + chunkCount - 1) / chunkCount);
+
+            List<ChunkTask> tasks = new ArrayList<>();
+            try {
+                long start = bodyStart;
+                while (start < size) {
+                    long end = nextLineStart(channel, Math.min(size, start + chunkSize), size);
+                    if (end - start > Integer.MAX_VALUE) {
+                        throw new IOException("Edge file line too long");
+                    }
+                    ChunkTask task = new ChunkTask(channel, start, end - start);
+                    pool.execute(task);
+                    tasks.add(task);
+                    start = end;
+                }
+
+                sink.begin(header.vertexCount);
+                for (int i = 0; i < tasks.size(); i++) {
+                    EdgeBuffer edges;
+                    try {
+                        edges = tasks.get(i).join();
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                    // Drop the task, and with it the buffer, as soon as the sink has the edges.
+                    tasks.set(i, null);
+                    sink.edges(edges.from, edges.to, edges.count);
+                }
+            } finally {
+                // Only tasks that were not handed over are left; none are left after a success.
+                for (ChunkTask task : tasks) {
+                    if (task != null) {
+                        task.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the position just after the first line break at or after position.
+     * @param channel Open file channel.
+     * @param position Position to start searching from.
+     * @param size Size of the file.
+     * @return Position of the next line start, or size if there is none.
+     * @throws IOException if the file cannot be read.
+     *
+     * Time Complexity: O(l) where l is the distance to the line break
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Parse every byte of a mapped segment. Numbers and lines may continue from
+     * the previous segment, so the partial state is kept in the fields.
+     * @param buffer Mapped bytes.
+     * @throws IOException if an unexpected character is found or a line holds a single vertex.
+     *
+     * Time Complexity: O(n) where n is the number of bytes
+     */
+    private void parse(ByteBuffer buffer) throws IOException {
+        int limit = buffer.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n') {
+                if (inNumber) endNumber();
+                endLine();
+            } else if (skipLine) {
+                continue;
+            } else if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                if (value > Integer.MAX_VALUE) {
+                    throw new IOException("Number too large in edge file");
+                }
+                inNumber = true;
+            } else if (b == ' ' || b == '\r' || b == '\t') {
+                if (inNumber) endNumber();
+            } else {
+                throw new IOException(String.format("Unexpected character '%c' in edge file", (char) b));
+            }
+        }
+    }
+
+    /**
+     * Finish the current number and route it to the header or the edge batch.
+     * Once a line has given what it is used for, the rest of it is skipped.
+     *
+     * Time Complexity: O(1) amortized
+     */
+    private void endNumber() {
+        int number = (int) value;
+        value = 0;
+        inNumber = false;
+
+        if (!headerRead) {
+            headerRead = true;
+            skipLine = true;
+            sink.begin(number);
+        } else if (!haveFirst) {
+            first = number;
+            haveFirst = true;
+        } else {
+            from[count] = first;
+            to[count] = number;
+            count++;
+            haveFirst = false;
+            skipLine = true;
+            if (count == BATCH_SIZE) flush();
+        }
+    }
+
+    /**
+     * Handle a line break.
+     * @throws IOException if the line holds a single vertex.
+     *
+     * Time Complexity: O(1)
+     */
+    private void endLine() throws IOException {
+        if (haveFirst) {
+            throw new IOException("Edge line with a single vertex: " + first);
+        }
+        skipLine = false;
+    }
+
+    /**
+     * Deliver the buffered edges to the sink.
+     *
+     * Time Complexity: O(1) plus the cost of the sink
+     */
+    private void flush() {
+        if (count > 0) {
+            sink.edges(from, to, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Handle the end of the file.
+     * @throws IOException if the header is missing or the last edge is incomplete.
+     *
+     * Time Complexity: O(1) plus the cost of the sink
+     */
+    private void finish() throws IOException {
+        if (inNumber) endNumber();
+        if (!headerRead) {
+            throw new IOException("Edge file is empty");
+        }
+        if (haveFirst) {
+            throw new IOException("Edge file ends with an incomplete edge");
+        }
+        flush();
+    }
+
+    /**
+     * Sink that only records the vertex count.
+     */
+    private static class HeaderReader implements EdgeSink {
+        private int vertexCount;
+
+        @Override
+        public void begin(int vertexCount) {
+            this.vertexCount = vertexCount;
+        }
+
+        @Override
+        public void edges(int[] from, int[] to, int count) {
+        }
+    }
+
+    /**
+     * Growable edge list owned by a single parsing task.
+     */
+    private static class EdgeBuffer implements EdgeSink {
+        private int[] from = new int[BATCH_SIZE];
+        private int[] to = new int[BATCH_SIZE];
+        private int count;
+
+        @Override
+        public void begin(int vertexCount) {
+        }
+
+        @Override
+        public void edges(int[] from, int[] to, int count) {
+            if (this.count + count > this.from.length) {
+                int newLength = Math.max(this.from.length * 2, this.count + count);
+                this.from = Arrays.copyOf(this.from, newLength);
+                this.to = Arrays.copyOf(this.to, newLength);
+            }
+            System.arraycopy(from, 0, this.from, this.count, count);
+            System.arraycopy(to, 0, this.to, this.count, count);
+            this.count += count;
+        }
+    }
+
+    /**
+     * Parses one newline-aligned byte range of the file into an EdgeBuffer.
+     */
+    private static class ChunkTask extends RecursiveTask<EdgeBuffer> {
+        private final FileChannel channel;
+        private final long position;
+        private final long length;
+
+        ChunkTask(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        protected EdgeBuffer compute() {
+            EdgeBuffer edges = new EdgeBuffer();
+            try {
+                EdgeFileReader parser = forEdgeLines(edges);
+                parser.parse(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                parser.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return edges;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package DSA.IO;
+
+/**
+ * Receives the contents of an edge file while it is being parsed.
+ * The header is delivered first, then the edges in batches.
+ */
+public interface EdgeSink {
+    /**
+     * Called once with the vertex count from the first line of the file.
+     * @param vertexCount Number of vertices in the graph.
+     */
+    void begin(int vertexCount);
+
+    /**
+     * Called with the next batch of edges. The arrays are reused by the
+     * reader, so they must not be kept after the call returns.
+     * @param from First vertex of each edge.
+     * @param to Second vertex of each edge.
+     * @param count Number of valid entries in the arrays.
+     */
+    void edges(int[] from, int[] to, int count);
+}
@@ -0,0 +1,214 @@
+package DSA.IO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * Compact binary snapshot format for graphs.
+ *
+ * Layout:
+ * - int magic ("GTUG"), byte version
+ * - int vertex count, long edge count
+ * - for every vertex v: varint k, then the k neighbors u >= v in ascending order,
+ *   stored as varint gaps (the first gap is measured from v itself)
+ *
+ * Every undirected edge is stored once, from its smaller endpoint, and small
+ * gaps fit in a single byte. All numbers are big-endian or unsigned LEB128 varints.
+ */
+public class GraphSnapshot {
+    private static final int MAGIC = 0x47545547;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 8;
+    private static final int EDGE_COUNT_POSITION = 4 + 1 + 4;
+
+    /** Size of the direct buffer used for channel I/O. */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Longest encoding of an int as a varint. */
+    private static final int MAX_VARINT = 5;
+
+    /**
+     * Write graph to filePath in the snapshot format.
+     * @param filePath Path to the destination file.
+     * @param graph Graph to be written.
+     * @throws IOException if the file cannot be written.
+     *
+     * Time Complexity: O(V + E), plus O(d log d) for rows that are not already sorted
+     */
+    public static void write(String filePath, GTUGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            buffer.putInt(graph.size());
+            buffer.putLong(0L);
+
+            long edgeCount = 0;
+            int[] row = new int[16];
+            for (int v = 0; v < graph.size(); v++) {
+                // Collect the neighbors from v upwards.
+                int k = 0;
+                boolean sorted = true;
+                for (int u : graph.getNeighbors(v)) {
+                    if (u < v) continue;
+                    if (k == row.length) row = Arrays.copyOf(row, row.length * 2);
+                    if (k > 0 && u < row[k - 1]) sorted = false;
+                    row[k++] = u;
+                }
+                if (!sorted) Arrays.sort(row, 0, k);
+
+                if (buffer.remaining() < MAX_VARINT) flush(channel, buffer);
+                putVarint(buffer, k);
+                int previous = v;
+                for (int i = 0; i < k; i++) {
+                    if (buffer.remaining() < MAX_VARINT) flush(channel, buffer);
+                    putVarint(buffer, row[i] - previous);
+                    previous = row[i];
+                }
+                edgeCount += k;
+            }
+            flush(channel, buffer);
+
+            // Patch the edge count now that it is known.
+            buffer.putLong(edgeCount);
+            buffer.flip();
+            long position = EDGE_COUNT_POSITION;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+
+    /**
+     * Reinitialize graph from a snapshot file.
+     * Edges are added through GTUGraph.setEdges in batches.
+     * @param filePath Path to the snapshot file.
+     * @param graph Graph to be filled.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     *
+     * Time Complexity: O(V + E) plus the cost of adding the edges to graph
+     */
+    public static void read(String filePath, GTUGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.limit(0);
+            fill(channel, buffer, HEADER_SIZE);
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IOException("Not a graph snapshot file");
+            }
+            int vertexCount = buffer.getInt();
+            long edgeCount = buffer.getLong();
+            if (vertexCount < 0 || edgeCount < 0) {
+                throw new IOException("Corrupt graph snapshot header");
+            }
+            graph.reset(vertexCount);
+
+            int[] from = new int[EdgeFileReader.BATCH_SIZE];
+            int[] to = new int[EdgeFileReader.BATCH_SIZE];
+            int count = 0;
+            long edgesRead = 0;
+            for (int v = 0; v < vertexCount; v++) {
+                fill(channel, buffer, MAX_VARINT);
+                int k = getVarint(buffer);
+                int u = v;
+                for (int i = 0; i < k; i++) {
+                    fill(channel, buffer, MAX_VARINT);
+                    u += getVarint(buffer);
+                    if (u < v || u >= vertexCount) {
+                        throw new IOException("Corrupt graph snapshot: vertex out of range");
+                    }
+                    from[count] = v;
+                    to[count] = u;
+                    if (++count == from.length) {
+                        graph.setEdges(from, to, count);
+                        count = 0;
+                    }
+                }
+                edgesRead += k;
+            }
+            graph.setEdges(from, to, count);
+
+            if (edgesRead != edgeCount) {
+                throw new IOException("Corrupt graph snapshot: edge count mismatch");
+            }
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the channel and clear the buffer.
+     * @param channel Destination channel.
+     * @param buffer Buffer in write mode.
+     * @throws IOException if the write fails.
+     *
+     * Time Complexity: O(b) where b is the number of buffered bytes
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Make sure at least wanted bytes are readable, refilling from the channel if needed.
+     * Fewer bytes remain only at the end of the file.
+     * @param channel Source channel.
+     * @param buffer Buffer in read mode.
+     * @param wanted Number of bytes the caller is about to read.
+     * @throws IOException if the read fails.
+     *
+     * Time Complexity: O(b) where b is the buffer size, amortized O(1) per byte
+     */
+    private static void fill(FileChannel channel, ByteBuffer buffer, int wanted) throws IOException {
+        if (buffer.remaining() >= wanted) return;
+        buffer.compact();
+        while (buffer.position() < wanted && channel.read(buffer) > 0) {
+            // Keep reading until enough bytes are buffered or the file ends.
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Append a non-negative int as an unsigned LEB128 varint.
+     * @param buffer Buffer in write mode.
+     * @param value Value to be written.
+     *
+     * Time Complexity: O(1)
+     */
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Read an unsigned LEB128 varint.
+     * @param buffer Buffer in read mode.
+     * @return The decoded value.
+     * @throws IOException if the varint is truncated or too long.
+     *
+     * Time Complexity: O(1)
+     */
+    private static int getVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_VARINT; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Corrupt graph snapshot: unexpected end of file");
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IOException("Corrupt graph snapshot: varint too long");
+    }
+}
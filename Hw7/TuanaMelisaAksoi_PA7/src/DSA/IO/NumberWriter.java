@@ -0,0 +1,145 @@
+package DSA.IO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered writer for text files made of integers.
+ * Numbers are formatted as ASCII digits straight into a reusable byte buffer,
+ * which is written to a FileChannel in large blocks. No Strings or formatters
+ * are created per number.
+ */
+public class NumberWriter implements Closeable {
+    /** Size of the output buffer. */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Longest decimal form of a long, including the sign. */
+    private static final int MAX_DIGITS = 20;
+
+    private final FileChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer wrapper;
+    private final byte[] digits;
+    private int position;
+
+    /**
+     * Opens filePath for writing, replacing any existing contents.
+     * @param filePath Path to the destination file.
+     * @throws IOException if the file cannot be opened.
+     *
+     * Time Complexity: O(1)
+     */
+    public NumberWriter(String filePath) throws IOException {
+        this.channel = FileChannel.open(Path.of(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = new byte[BUFFER_SIZE];
+        this.wrapper = ByteBuffer.wrap(buffer);
+        this.digits = new byte[MAX_DIGITS];
+        this.position = 0;
+    }
+
+    /**
+     * Write a number in decimal.
+     * @param value Number to be written.
+     * @throws IOException if the buffer has to be flushed and the write fails.
+     *
+     * Time Complexity: O(1)
+     */
+    public void writeNumber(long value) throws IOException {
+        if (BUFFER_SIZE - position < MAX_DIGITS) flush();
+
+        if (value == Long.MIN_VALUE) {
+            for (int i = 0; i < MAX_DIGITS; i++) {
+                buffer[position++] = (byte) "-9223372036854775808".charAt(i);
+            }
+            return;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        // Digits come out lowest first, so fill the scratch array from the back.
+        int i = MAX_DIGITS;
+        do {
+            digits[--i] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        int length = MAX_DIGITS - i;
+        System.arraycopy(digits, i, buffer, position, length);
+        position += length;
+    }
+
+    /**
+     * Write a single ASCII character, such as a separator or a line break.
+     * @param c Character to be written.
+     * @throws IOException if the buffer has to be flushed and the write fails.
+     *
+     * Time Complexity: O(1)
+     */
+    public void writeChar(char c) throws IOException {
+        if (position == BUFFER_SIZE) flush();
+        buffer[position++] = (byte) c;
+    }
+
+    /**
+     * Write a number followed by a line break.
+     * @param value Number to be written.
+     * @throws IOException if the buffer has to be flushed and the write fails.
+     *
+     * Time Complexity: O(1)
+     */
+    public void writeLine(long value) throws IOException {
+        writeNumber(value);
+        writeChar('\n');
+    }
+
+    /**
+     * Write two numbers separated by a space, followed by a line break.
+     * @param first First number.
+     * @param second Second number.
+     * @throws IOException if the buffer has to be flushed and the write fails.
+     *
+     * Time Complexity: O(1)
+     */
+    public void writeLine(long first, long second) throws IOException {
+        writeNumber(first);
+        writeChar(' ');
+        writeNumber(second);
+        writeChar('\n');
+    }
+
+    /**
+     * Write the buffered bytes to the file.
+     * @throws IOException if the write fails.
+     *
+     * Time Complexity: O(b) where b is the number of buffered bytes
+     */
+    public void flush() throws IOException {
+        wrapper.clear();
+        wrapper.limit(position);
+        while (wrapper.hasRemaining()) {
+            channel.write(wrapper);
+        }
+        position = 0;
+    }
+
+    /**
+     * Flush the remaining bytes and close the file.
+     * @throws IOException if the write or close fails.
+     *
+     * Time Complexity: O(b) where b is the number of buffered bytes
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
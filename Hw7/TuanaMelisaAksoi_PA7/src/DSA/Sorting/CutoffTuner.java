@@ -0,0 +1,188 @@
+package DSA.Sorting;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks the partitionLimit of a hybrid MyQuickSort by measurement.
+ * The first time a cutoff is asked for a sub-sorter, a short benchmark
+ * sorts the same random sample with every candidate cutoff on the running
+ * JVM and keeps the fastest. Primitive arrays and object arrays sorted with
+ * a comparator are tuned separately, since comparator calls make small sorts
+ * relatively more expensive. Results are cached for the lifetime of the JVM
+ * by the sub-sorter's configuration (its class and options, see
+ * GTUSorter.configuration), so differently configured sub-sorters of one
+ * class get their own cutoffs.
+ *
+ * The benchmark runs outside the cache. Threads that ask for a new
+ * configuration at the same time may each measure it, but the first result
+ * published is the one every caller gets.
+ *
+ * The benchmark sorts with the caller's sub-sorter but pauses its metrics,
+ * so tuning never shows up in them. The pause holds the sub-sorter's lock,
+ * so two benchmarks on one sub-sorter cannot restore each other's metrics.
+ */
+public final class CutoffTuner {
+    /** Cutoffs that are tried. */
+    private static final int[] CANDIDATES = {4, 8, 12, 16, 24, 32, 48, 64};
+
+    /** Number of elements sorted per measurement. */
+    private static final int SAMPLE_SIZE = 1 << 12;
+
+    /** Rounds over all candidates that only warm up the JIT and are not timed. */
+    private static final int WARMUP_ROUNDS = 3;
+
+    /** Timed rounds over all candidates. */
+    private static final int ROUNDS = 9;
+
+    private static final ConcurrentHashMap<Object, Integer> PRIMITIVE_CUTOFFS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Object, Integer> OBJECT_CUTOFFS = new ConcurrentHashMap<>();
+
+    private static final Comparator<Integer> ASCENDING = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    private CutoffTuner() {
+    }
+
+    /**
+     * Returns the best cutoff for sorting primitive arrays with subSorter below it.
+     * @param subSorter The sorter used for small partitions, or null
+     * @return The cutoff, 0 if subSorter is null
+     *
+     * Time Complexity: O(1) once cached; the first call runs the benchmark
+     */
+    public static int primitiveCutoff(GTUSorter subSorter) {
+        if (subSorter == null) return 0;
+        Object key = subSorter.configuration();
+        Integer cutoff = PRIMITIVE_CUTOFFS.get(key);
+        if (cutoff == null) {
+            cutoff = publish(PRIMITIVE_CUTOFFS, key, measure(subSorter, false));
+        }
+        return cutoff;
+    }
+
+    /**
+     * Returns the best cutoff for sorting objects with a comparator and subSorter below it.
+     * @param subSorter The sorter used for small partitions, or null
+     * @return The cutoff, 0 if subSorter is null
+     *
+     * Time Complexity: O(1) once cached; the first call runs the benchmark
+     */
+    public static int objectCutoff(GTUSorter subSorter) {
+        if (subSorter == null) return 0;
+        Object key = subSorter.configuration();
+        Integer cutoff = OBJECT_CUTOFFS.get(key);
+        if (cutoff == null) {
+            cutoff = publish(OBJECT_CUTOFFS, key, measure(subSorter, true));
+        }
+        return cutoff;
+    }
+
+    /**
+     * Stores a measured cutoff unless another thread has stored one first.
+     *
+     * Time Complexity: O(1)
+     */
+    private static int publish(ConcurrentHashMap<Object, Integer> cutoffs, Object key, int measured) {
+        Integer previous = cutoffs.putIfAbsent(key, measured);
+        return previous == null ? measured : previous;
+    }
+
+    /**
+     * Runs the benchmark with the metrics of subSorter paused.
+     *
+     * Time Complexity: O(c * r * n log n) for c candidates, r rounds and sample size n
+     */
+    private static int measure(GTUSorter subSorter, boolean objects) {
+        synchronized (subSorter) {
+            SortRecorder recorder = subSorter.recorder;
+            subSorter.recorder = null;
+            try {
+                return objects ? measureObject(subSorter) : measurePrimitive(subSorter);
+            } finally {
+                subSorter.recorder = recorder;
+            }
+        }
+    }
+
+    /**
+     * Times every candidate cutoff on random int arrays.
+     *
+     * Time Complexity: O(c * r * n log n) for c candidates, r rounds and sample size n
+     */
+    private static int measurePrimitive(GTUSorter subSorter) {
+        int[] sample = new Random(SAMPLE_SIZE).ints(SAMPLE_SIZE).toArray();
+        int[] copy = new int[SAMPLE_SIZE];
+        long[] best = new long[CANDIDATES.length];
+
+        // Rounds go over all candidates in turn, so noise affects them alike.
+        for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+            for (int c = 0; c < CANDIDATES.length; c++) {
+                MyQuickSort sorter = new MyQuickSort(subSorter, CANDIDATES[c]);
+                System.arraycopy(sample, 0, copy, 0, SAMPLE_SIZE);
+                long begin = System.nanoTime();
+                sorter.sort(copy);
+                record(best, c, round, System.nanoTime() - begin);
+            }
+        }
+        return fastest(best);
+    }
+
+    /**
+     * Times every candidate cutoff on random Integer arrays sorted with a comparator.
+     *
+     * Time Complexity: O(c * r * n log n) for c candidates, r rounds and sample size n
+     */
+    private static int measureObject(GTUSorter subSorter) {
+        Random random = new Random(SAMPLE_SIZE);
+        Integer[] sample = new Integer[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            sample[i] = random.nextInt();
+        }
+        Integer[] copy = new Integer[SAMPLE_SIZE];
+        long[] best = new long[CANDIDATES.length];
+
+        for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+            for (int c = 0; c < CANDIDATES.length; c++) {
+                MyQuickSort sorter = new MyQuickSort(subSorter, CANDIDATES[c]);
+                System.arraycopy(sample, 0, copy, 0, SAMPLE_SIZE);
+                long begin = System.nanoTime();
+                sorter.sort(copy, ASCENDING);
+                record(best, c, round, System.nanoTime() - begin);
+            }
+        }
+        return fastest(best);
+    }
+
+    /**
+     * Keeps the shortest time of every candidate, ignoring the warm-up rounds.
+     *
+     * Time Complexity: O(1)
+     */
+    private static void record(long[] best, int candidate, int round, long time) {
+        if (round < 0) return;
+        if (round == 0 || time < best[candidate]) {
+            best[candidate] = time;
+        }
+    }
+
+    /**
+     * Returns the candidate with the shortest time.
+     *
+     * Time Complexity: O(c)
+     */
+    private static int fastest(long[] best) {
+        int fastest = 0;
+        for (int c = 1; c < best.length; c++) {
+            if (best[c] < best[fastest]) {
+                fastest = c;
+            }
+        }
+        return CANDIDATES[fastest];
+    }
+}
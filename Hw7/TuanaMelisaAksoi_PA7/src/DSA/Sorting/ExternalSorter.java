@@ -0,0 +1,365 @@
+package DSA.Sorting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import DSA.IO.NumberWriter;
+
+/**
+ * Sorts more int values than fit in memory.
+ * Values are collected in a chunk of fixed size; every full chunk is sorted
+ * with the configured GTUSorter and written to a temporary file as a sorted
+ * run. At the end the runs are merged with a heap of run heads, at most
+ * MAX_FAN_IN runs at a time, so memory use is bounded by the chunk plus one
+ * read buffer per merged run no matter how many values are added.
+ *
+ * If all values fit in one chunk nothing is written to disk.
+ */
+public class ExternalSorter implements Closeable {
+    /** Maximum number of runs merged in one pass. */
+    private static final int MAX_FAN_IN = 64;
+
+    /** Size of the read or write buffer of one run file. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final GTUSorter sorter;
+    private final boolean descending;
+    private final int[] chunk;
+    private int count;
+    private long size;
+
+    private Path tempDir;
+    private final ArrayList<Path> runs;
+    private int runNumber;
+
+    /**
+     * Creates an external sorter.
+     * @param sorter The sorter used for every chunk.
+     * @param chunkSize Number of values sorted in memory at a time.
+     * @param descending true to sort from the largest value to the smallest.
+     * @throws IllegalArgumentException if chunkSize is not positive.
+     *
+     * Time Complexity: O(chunkSize) to allocate the chunk
+     */
+    public ExternalSorter(GTUSorter sorter, int chunkSize, boolean descending) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.sorter = sorter;
+        this.descending = descending;
+        this.chunk = new int[chunkSize];
+        this.count = 0;
+        this.size = 0;
+        this.runs = new ArrayList<>();
+        this.runNumber = 0;
+    }
+
+    /**
+     * Add a value. Sorts the chunk and spills it to disk when it is full.
+     * @param value Value to be sorted.
+     * @throws IOException if a run cannot be written.
+     *
+     * Time Complexity: O(1) amortized, plus the cost of sorting a chunk when it fills up
+     */
+    public void add(int value) throws IOException {
+        if (count == chunk.length) {
+            spill();
+        }
+        chunk[count++] = value;
+        size++;
+    }
+
+    /**
+     * Get the number of values added so far.
+     * @return Number of values.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Write all values in sorted order, one per line.
+     * The sorter cannot be used to add more values afterwards.
+     * @param writer Destination of the sorted values.
+     * @throws IOException if reading a run or writing fails.
+     *
+     * Time Complexity: O(n log n) comparisons; every value is read and written
+     * once per merge pass, and there are ceil(log_64(runs)) passes
+     */
+    public void writeSorted(NumberWriter writer) throws IOException {
+        if (runs.isEmpty()) {
+            sortChunk();
+            for (int i = 0; i < count; i++) {
+                writer.writeLine(chunk[i]);
+            }
+            return;
+        }
+
+        if (count > 0) {
+            spill();
+        }
+
+        // Merge groups of runs into longer runs until one pass can finish.
+        // Every file stays in runs until it is deleted, so close() can clean up after a failure.
+        while (runs.size() > MAX_FAN_IN) {
+            ArrayList<Path> group = new ArrayList<>(runs.subList(0, MAX_FAN_IN));
+            Path merged = newRunFile();
+            runs.add(merged);
+            try (RunWriter out = new RunWriter(merged)) {
+                merge(group, out);
+            }
+            for (Path run : group) {
+                Files.delete(run);
+            }
+            runs.subList(0, MAX_FAN_IN).clear();
+        }
+
+        merge(runs, writer);
+    }
+
+    /**
+     * Delete all temporary files.
+     * @throws IOException if a file cannot be deleted.
+     *
+     * Time Complexity: O(r) where r is the number of runs
+     */
+    @Override
+    public void close() throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        runs.clear();
+        if (tempDir != null) {
+            Files.deleteIfExists(tempDir);
+            tempDir = null;
+        }
+    }
+
+    /**
+     * Sort the values in the chunk, reversing them afterwards for descending order.
+     *
+     * Time Complexity: that of the sorter, plus O(c) to reverse
+     */
+    private void sortChunk() {
+        sorter.sort(chunk, 0, count);
+        if (descending) {
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                int temp = chunk[i];
+                chunk[i] = chunk[j];
+                chunk[j] = temp;
+            }
+        }
+    }
+
+    /**
+     * Sort the chunk, write it as a new run and empty it.
+     * @throws IOException if the run cannot be written.
+     *
+     * Time Complexity: O(c) plus the cost of sorting c values
+     */
+    private void spill() throws IOException {
+        sortChunk();
+        Path run = newRunFile();
+        // Track the run before writing, so close() deletes it even if the write fails.
+        runs.add(run);
+        try (RunWriter out = new RunWriter(run)) {
+            for (int i = 0; i < count; i++) {
+                out.write(chunk[i]);
+            }
+        }
+        count = 0;
+    }
+
+    /**
+     * Create an empty file for a new run, creating the temporary directory first if needed.
+     * @return Path of the new file.
+     * @throws IOException if the file cannot be created.
+     */
+    private Path newRunFile() throws IOException {
+        if (tempDir == null) {
+            tempDir = Files.createTempDirectory("gtu-sort");
+        }
+        return tempDir.resolve("run" + (runNumber++) + ".bin");
+    }
+
+    /**
+     * Merge sorted runs into one sorted sequence.
+     * Each run is read through its own buffer; a binary heap holds the
+     * index of every run that has values left, ordered by its current value.
+     * @param group Runs to be merged.
+     * @param out Destination of the merged values.
+     * @throws IOException if reading or writing fails.
+     *
+     * Time Complexity: O(n log k) for n values in k runs
+     */
+    private void merge(ArrayList<Path> group, IntOutput out) throws IOException {
+        RunReader[] readers = new RunReader[group.size()];
+        try {
+            int[] heap = new int[readers.length];
+            int heapSize = 0;
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new RunReader(group.get(i));
+                if (readers[i].advance()) {
+                    heap[heapSize] = i;
+                    siftUp(heap, heapSize, readers);
+                    heapSize++;
+                }
+            }
+
+            while (heapSize > 0) {
+                RunReader top = readers[heap[0]];
+                out.write(top.current);
+                if (!top.advance()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, readers);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Merge sorted runs into the final output, one value per line.
+     * @param group Runs to be merged.
+     * @param writer Destination of the merged values.
+     * @throws IOException if reading or writing fails.
+     *
+     * Time Complexity: O(n log k) for n values in k runs
+     */
+    private void merge(ArrayList<Path> group, NumberWriter writer) throws IOException {
+        merge(group, new IntOutput() {
+            @Override
+            public void write(int value) throws IOException {
+                writer.writeLine(value);
+            }
+        });
+    }
+
+    /**
+     * Whether value a goes before value b in the output order.
+     *
+     * Time Complexity: O(1)
+     */
+    private boolean before(int a, int b) {
+        return descending ? a > b : a < b;
+    }
+
+    private void siftUp(int[] heap, int i, RunReader[] readers) {
+        int run = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(readers[run].current, readers[heap[parent]].current)) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = run;
+    }
+
+    private void siftDown(int[] heap, int size, RunReader[] readers) {
+        if (size == 0) return;
+        int run = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && before(readers[heap[child + 1]].current, readers[heap[child]].current)) child++;
+            if (!before(readers[heap[child]].current, readers[run].current)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    /**
+     * Destination of merged values.
+     */
+    private interface IntOutput {
+        void write(int value) throws IOException;
+    }
+
+    /**
+     * Writes a run as raw 4-byte ints through a buffer.
+     */
+    private static class RunWriter implements IntOutput, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        RunWriter(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) flush();
+            buffer.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads a run written by RunWriter one value at a time through a buffer.
+     */
+    private static class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+
+        RunReader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        /**
+         * Move to the next value of the run.
+         * @return false if the run has no more values.
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        buffer.flip();
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
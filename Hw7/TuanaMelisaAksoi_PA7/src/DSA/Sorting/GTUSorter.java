@@ -1,12 +1,81 @@
 package DSA.Sorting;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.ToIntFunction;
 
 /**
  * A generic class for sorting arrays.
  * 
+ * Metrics (call counts, a histogram of call durations, comparisons, swaps
+ * and quicksort partitioning statistics) can be switched on per sorter with
+ * enableMetrics() and read with getMetrics(). While metrics are disabled the
+ * sorters only check a null reference per call or partition. While they are
+ * enabled, comparator sorts count every comparison through a wrapping
+ * comparator; primitive sorts add up their counts per pass or partition.
+ * Every sort call reads the metrics once at its start, so enabling or
+ * disabling them during a call only affects later calls.
  */
 public abstract class GTUSorter {
+    /** Metrics of this sorter, or null while metrics are disabled. */
+    SortRecorder recorder;
+
+    /**
+     * Start collecting metrics. Should be called before the sorter is shared between threads.
+     * 
+     * Time Complexity: O(1)
+     */
+    public void enableMetrics() {
+        if (recorder == null) {
+            recorder = new SortRecorder();
+        }
+    }
+
+    /**
+     * Stop collecting metrics and drop the collected values.
+     * 
+     * Time Complexity: O(1)
+     */
+    public void disableMetrics() {
+        recorder = null;
+    }
+
+    /**
+     * Start the metrics over from zero, if they are enabled.
+     * 
+     * Time Complexity: O(1)
+     */
+    public void resetMetrics() {
+        if (recorder != null) {
+            recorder = new SortRecorder();
+        }
+    }
+
+    /**
+     * Get a snapshot of the metrics collected since they were enabled or reset.
+     * 
+     * @return The metrics; all zero if metrics are disabled.
+     * 
+     * Time Complexity: O(1)
+     */
+    public SortMetrics getMetrics() {
+        SortRecorder recorder = this.recorder;
+        return recorder == null ? SortMetrics.EMPTY : recorder.snapshot();
+    }
+
+    /**
+     * Describe how this sorter is set up, so measured settings such as the
+     * cutoffs of CutoffTuner are only shared between sorters that behave alike.
+     * Sorters with options override this to include them.
+     * 
+     * @return A value with equals and hashCode; the class for sorters without options.
+     * 
+     * Time Complexity: O(1) per nested sorter
+     */
+    Object configuration() {
+        return getClass();
+    }
+
     /**
      * Sort arr in ascending order.
      * 
@@ -17,7 +86,158 @@ public abstract class GTUSorter {
      * Time Complexity: O(n log n) average case, depends on implementation
      */
     public <T> void sort(T[] arr, Comparator<T> comparator) {
-        sort(arr, 0, arr.length, comparator);
+        SortRecorder recorder = this.recorder;
+        if (recorder == null) {
+            sort(arr, 0, arr.length, comparator);
+            return;
+        }
+        long begin = System.nanoTime();
+        sort(arr, 0, arr.length, recorder.counting(comparator));
+        recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in ascending order of an int key.
+     * Elements with equal keys keep their relative order (the sort is stable).
+     * 
+     * @param <T> Any type.
+     * @param arr Array to be sorted.
+     * @param key Extracts the sort key of an element; called once per element.
+     * 
+     * Time Complexity: depends on implementation, plus O(n) to extract the keys
+     */
+    public <T> void sortByKey(T[] arr, ToIntFunction<T> key) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sortByKey(arr, 0, arr.length, key);
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in ascending order of an int key.
+     * The default implementation packs every key with its position into a long,
+     * sorts these with this sorter's long path and reorders arr accordingly,
+     * which makes any sorter stable and avoids calling a comparator on objects.
+     * 
+     * @param <T> Any type.
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     * @param key Extracts the sort key of an element; called once per element.
+     * 
+     * Time Complexity: the cost of sort(long[]) plus O(n)
+     */
+    protected <T> void sortByKey(T[] arr, int start, int end, ToIntFunction<T> key) {
+        int n = end - start;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) key.applyAsInt(arr[start + i]) << 32) | i;
+        }
+        sort(packed, 0, n);
+
+        T[] copy = Arrays.copyOfRange(arr, start, end);
+        for (int i = 0; i < n; i++) {
+            arr[start + i] = copy[(int) packed[i]];
+        }
+    }
+
+    /**
+     * Sort arr in ascending order without boxing.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation
+     */
+    public void sort(int[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in descending order without boxing.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation, plus O(n) to reverse
+     */
+    public void sortDescending(int[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in ascending order without boxing.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation
+     */
+    public void sort(long[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in descending order without boxing.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation, plus O(n) to reverse
+     */
+    public void sortDescending(long[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            long temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in ascending order without boxing. Uses the same order as Arrays.sort(double[]): -0.0 before 0.0, NaN last.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation
+     */
+    public void sort(double[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Sort arr in descending order without boxing.
+     *
+     * @param arr Array to be sorted.
+     *
+     * Time Complexity: depends on implementation, plus O(n) to reverse
+     */
+    public void sortDescending(double[] arr) {
+        SortRecorder recorder = this.recorder;
+        long begin = recorder == null ? 0L : System.nanoTime();
+        sort(arr, 0, arr.length);
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            double temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        if (recorder != null) recorder.recordCall(arr.length, System.nanoTime() - begin);
     }
 
     /**
@@ -32,4 +252,37 @@ public abstract class GTUSorter {
      * Time Complexity: O(n log n) average case, depends on implementation
      */
     protected abstract <T> void sort(T[] arr, int start, int end, Comparator<T> comparator);
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in ascending order.
+     * 
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     * 
+     * Time Complexity: depends on implementation
+     */
+    protected abstract void sort(int[] arr, int start, int end);
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in ascending order.
+     * 
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     * 
+     * Time Complexity: depends on implementation
+     */
+    protected abstract void sort(long[] arr, int start, int end);
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in ascending order.
+     * 
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     * 
+     * Time Complexity: depends on implementation
+     */
+    protected abstract void sort(double[] arr, int start, int end);
 }
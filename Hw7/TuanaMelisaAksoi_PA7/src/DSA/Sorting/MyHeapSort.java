@@ -0,0 +1,204 @@
+package DSA.Sorting;
+
+import java.util.Comparator;
+
+/**
+ * Implementation of heapsort algorithm.
+ * Builds a max-heap over the range and repeatedly moves the largest
+ * element to the end. Runs in O(n log n) for every input and needs no
+ * extra memory or recursion.
+ */
+public class MyHeapSort extends GTUSorter {
+    /**
+     * Creates a new heapsort instance.
+     * 
+     * Time Complexity: O(1)
+     */
+    public MyHeapSort() {
+        super();
+    }
+
+    /**
+     * Sorts a portion of an array using heapsort algorithm.
+     * @param <T> The type of elements in the array
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param comparator The comparator to determine the order of elements
+     * 
+     * Time Complexity: O(n log n) in every case
+     */
+    protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
+        int n = end - start;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(table, start, i, n, comparator);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            T temp = table[start];
+            table[start] = table[start + last];
+            table[start + last] = temp;
+            siftDown(table, start, 0, last, comparator);
+        }
+    }
+
+    /**
+     * Moves the element at heap index i down until both children are smaller.
+     * @param <T> The type of elements in the array
+     * @param table The array holding the heap
+     * @param offset Array index of the heap root
+     * @param i Heap index of the element to move
+     * @param n Number of elements in the heap
+     * @param comparator The comparator to determine the order of elements
+     * 
+     * Time Complexity: O(log n)
+     */
+    private <T> void siftDown(T[] table, int offset, int i, int n, Comparator<T> comparator) {
+        T value = table[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && comparator.compare(table[offset + child + 1], table[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(table[offset + child], value) <= 0) break;
+            table[offset + i] = table[offset + child];
+            i = child;
+        }
+        table[offset + i] = value;
+    }
+
+    /**
+     * Sorts a portion of an array of int values using heapsort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n log n) in every case
+     */
+    protected void sort(int[] table, int start, int end) {
+        int n = end - start;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(table, start, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            int temp = table[start];
+            table[start] = table[start + last];
+            table[start + last] = temp;
+            siftDown(table, start, 0, last);
+        }
+    }
+
+    /**
+     * Moves the int at heap index i down until both children are smaller.
+     * @param table The array holding the heap
+     * @param offset Array index of the heap root
+     * @param i Heap index of the element to move
+     * @param n Number of elements in the heap
+     * 
+     * Time Complexity: O(log n)
+     */
+    private void siftDown(int[] table, int offset, int i, int n) {
+        int value = table[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && table[offset + child + 1] > table[offset + child]) {
+                child++;
+            }
+            if (!(table[offset + child] > value)) break;
+            table[offset + i] = table[offset + child];
+            i = child;
+        }
+        table[offset + i] = value;
+    }
+
+    /**
+     * Sorts a portion of an array of long values using heapsort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n log n) in every case
+     */
+    protected void sort(long[] table, int start, int end) {
+        int n = end - start;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(table, start, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            long temp = table[start];
+            table[start] = table[start + last];
+            table[start + last] = temp;
+            siftDown(table, start, 0, last);
+        }
+    }
+
+    /**
+     * Moves the long at heap index i down until both children are smaller.
+     * @param table The array holding the heap
+     * @param offset Array index of the heap root
+     * @param i Heap index of the element to move
+     * @param n Number of elements in the heap
+     * 
+     * Time Complexity: O(log n)
+     */
+    private void siftDown(long[] table, int offset, int i, int n) {
+        long value = table[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && table[offset + child + 1] > table[offset + child]) {
+                child++;
+            }
+            if (!(table[offset + child] > value)) break;
+            table[offset + i] = table[offset + child];
+            i = child;
+        }
+        table[offset + i] = value;
+    }
+
+    /**
+     * Sorts a portion of an array of double values using heapsort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n log n) in every case
+     */
+    protected void sort(double[] table, int start, int end) {
+        int n = end - start;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(table, start, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            double temp = table[start];
+            table[start] = table[start + last];
+            table[start + last] = temp;
+            siftDown(table, start, 0, last);
+        }
+    }
+
+    /**
+     * Moves the double at heap index i down until both children are smaller.
+     * @param table The array holding the heap
+     * @param offset Array index of the heap root
+     * @param i Heap index of the element to move
+     * @param n Number of elements in the heap
+     * 
+     * Time Complexity: O(log n)
+     */
+    private void siftDown(double[] table, int offset, int i, int n) {
+        double value = table[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && Double.compare(table[offset + child + 1], table[offset + child]) > 0) {
+                child++;
+            }
+            if (!(Double.compare(table[offset + child], value) > 0)) break;
+            table[offset + i] = table[offset + child];
+            i = child;
+        }
+        table[offset + i] = value;
+    }
+}
@@ -32,6 +32,7 @@ public class MyInsertSort extends GTUSorter{
      */
     protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
         int n = end - start;
+        long shifts = 0;
         for (int nextPos = start + 1; nextPos < end; nextPos++) {
             T nextVal = table[nextPos];
             int i = nextPos;
@@ -43,6 +44,101 @@ public class MyInsertSort extends GTUSorter{
             }
 
             table[i] = nextVal; 
+            shifts += nextPos - i;
         }
+
+        // Comparisons are counted by the comparator.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) recorder.recordWork(0, shifts);
+    }
+
+    /**
+     * Sorts a portion of an array of int values using insertion sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n) best case, O(n²) average and worst case
+     */
+    protected void sort(int[] table, int start, int end) {
+        long shifts = 0;
+        long stops = 0;
+        for (int nextPos = start + 1; nextPos < end; nextPos++) {
+            int nextVal = table[nextPos];
+            int i = nextPos;
+
+            while (i > start && table[i - 1] > nextVal) {
+                table[i] = table[i - 1];
+                i--;
+            }
+
+            table[i] = nextVal;
+            shifts += nextPos - i;
+            if (i > start) stops++;
+        }
+
+        // Every shift took one comparison, plus one for each element that stopped before start.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) recorder.recordWork(shifts + stops, shifts);
+    }
+
+    /**
+     * Sorts a portion of an array of long values using insertion sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n) best case, O(n²) average and worst case
+     */
+    protected void sort(long[] table, int start, int end) {
+        long shifts = 0;
+        long stops = 0;
+        for (int nextPos = start + 1; nextPos < end; nextPos++) {
+            long nextVal = table[nextPos];
+            int i = nextPos;
+
+            while (i > start && table[i - 1] > nextVal) {
+                table[i] = table[i - 1];
+                i--;
+            }
+
+            table[i] = nextVal;
+            shifts += nextPos - i;
+            if (i > start) stops++;
+        }
+
+        // Every shift took one comparison, plus one for each element that stopped before start.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) recorder.recordWork(shifts + stops, shifts);
+    }
+
+    /**
+     * Sorts a portion of an array of double values using insertion sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n) best case, O(n²) average and worst case
+     */
+    protected void sort(double[] table, int start, int end) {
+        long shifts = 0;
+        long stops = 0;
+        for (int nextPos = start + 1; nextPos < end; nextPos++) {
+            double nextVal = table[nextPos];
+            int i = nextPos;
+
+            while (i > start && Double.compare(table[i - 1], nextVal) > 0) {
+                table[i] = table[i - 1];
+                i--;
+            }
+
+            table[i] = nextVal;
+            shifts += nextPos - i;
+            if (i > start) stops++;
+        }
+
+        // Every shift took one comparison, plus one for each element that stopped before start.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) recorder.recordWork(shifts + stops, shifts);
     }
 }
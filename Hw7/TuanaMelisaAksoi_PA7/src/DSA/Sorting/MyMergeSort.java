@@ -0,0 +1,1082 @@
+package DSA.Sorting;
+
+import java.util.Comparator;
+
+/**
+ * Implementation of natural merge sort in the style of TimSort.
+ * The input is split into runs that are already in order (strictly descending
+ * runs are reversed in place); runs shorter than a minimum length are
+ * extended with binary insertion sort. Runs are merged from a stack that
+ * keeps the merges balanced, and every merge first skips the elements that
+ * are already in place and switches to galloping (exponential search) while
+ * one run keeps winning, so sorted and nearly sorted inputs take close to
+ * linear time.
+ *
+ * The sort is stable. Each call keeps one live scratch buffer of at most
+ * half the range size for all of its merges. It starts at the size of the
+ * first merge and is replaced by a larger one, about twice the size, when a
+ * later merge needs more room.
+ */
+public class MyMergeSort extends GTUSorter {
+    /** Ranges shorter than this are sorted with binary insertion sort alone. */
+    private static final int MIN_MERGE = 32;
+
+    /** Number of wins in a row after which a merge starts galloping. */
+    private static final int MIN_GALLOP = 7;
+
+    /** Run lengths grow at least like the Fibonacci numbers, so this many runs cover any array. */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Creates a new merge sort instance.
+     *
+     * Time Complexity: O(1)
+     */
+    public MyMergeSort() {
+        super();
+    }
+
+    /**
+     * Sorts a portion of an array using natural merge sort.
+     * Equal elements keep their relative order.
+     * @param <T> The type of elements in the array
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param comparator The comparator to determine the order of elements
+     *
+     * Time Complexity:
+     * - Best case: O(n) when the array is sorted or reverse sorted
+     * - Average case: O(n log n)
+     * - Worst case: O(n log n)
+     */
+    protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
+        new ObjectMerger<T>(table, comparator).sort(start, end);
+    }
+
+    /**
+     * Sorts a portion of an array of int values using natural merge sort.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) best case, O(n log n) average and worst case
+     */
+    protected void sort(int[] table, int start, int end) {
+        new IntMerger(table).sort(start, end);
+    }
+
+    /**
+     * Sorts a portion of an array of long values using natural merge sort.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) best case, O(n log n) average and worst case
+     */
+    protected void sort(long[] table, int start, int end) {
+        new LongMerger(table).sort(start, end);
+    }
+
+    /**
+     * Sorts a portion of an array of double values using natural merge sort.
+     * Each double is mapped to a long whose order matches Double.compare,
+     * the longs are sorted and mapped back.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) best case, O(n log n) average and worst case
+     */
+    protected void sort(double[] table, int start, int end) {
+        int n = end - start;
+        if (n < 2) return;
+
+        // Negative numbers: flip all bits but the sign, which reverses their order.
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(table[start + i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+
+        new LongMerger(keys).sort(0, n);
+
+        for (int i = 0; i < n; i++) {
+            long bits = keys[i];
+            table[start + i] = Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Returns the minimum run length for a range of n elements: a number
+     * between MIN_MERGE / 2 and MIN_MERGE such that n / minRun is a power of
+     * two or slightly less, which makes the final merges balanced.
+     *
+     * Time Complexity: O(log n)
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Run detection, binary insertion sort, the run stack and the merge policy
+     * of one merge sort call, shared by the typed mergers below. These steps
+     * reach the array only through the index-based hooks less, swap and
+     * rotate. The typed mergers implement the galloping merges themselves,
+     * so the inner loops of the merges work on their array type directly.
+     */
+    private abstract static class Merger {
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLen = new int[MAX_RUNS];
+        private int stackSize = 0;
+
+        /**
+         * Sorts a[lo] .. a[hi - 1].
+         *
+         * Time Complexity: O(n log n), O(n) when the range consists of a few runs
+         */
+        void sort(int lo, int hi) {
+            int remaining = hi - lo;
+            if (remaining < 2) return;
+
+            if (remaining < MIN_MERGE) {
+                int run = countRunAndMakeAscending(lo, hi);
+                binaryInsertionSort(lo, hi, lo + run);
+                return;
+            }
+
+            int minRun = minRunLength(remaining);
+            do {
+                int run = countRunAndMakeAscending(lo, hi);
+
+                // Extend short runs to minRun elements.
+                if (run < minRun) {
+                    int force = Math.min(remaining, minRun);
+                    binaryInsertionSort(lo, lo + force, lo + run);
+                    run = force;
+                }
+
+                runBase[stackSize] = lo;
+                runLen[stackSize] = run;
+                stackSize++;
+                mergeCollapse();
+
+                lo += run;
+                remaining -= run;
+            } while (remaining != 0);
+
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Whether a[i] sorts strictly before a[j].
+         *
+         * Time Complexity: O(1)
+         */
+        abstract boolean less(int i, int j);
+
+        /**
+         * Exchanges a[i] and a[j].
+         *
+         * Time Complexity: O(1)
+         */
+        abstract void swap(int i, int j);
+
+        /**
+         * Moves a[from] to index to, shifting a[to] .. a[from - 1] up by one.
+         *
+         * Time Complexity: O(from - to)
+         */
+        abstract void rotate(int to, int from);
+
+        /**
+         * Merges the adjacent sorted runs a[base1] .. a[base1 + len1 - 1] and a[base2] .. a[base2 + len2 - 1].
+         * Elements of the first run that are not larger than the first element
+         * of the second run, and elements of the second run that are not
+         * smaller than the last element of the first run, are already in place
+         * and are skipped with galloping searches before merging.
+         *
+         * Time Complexity: O(len1 + len2), O(log(len1 + len2)) if the runs do not overlap
+         */
+        abstract void merge(int base1, int len1, int base2, int len2);
+
+        /**
+         * Finds the length of the run starting at lo, reversing it if it is strictly descending.
+         *
+         * Time Complexity: O(r) where r is the length of the run
+         */
+        private int countRunAndMakeAscending(int lo, int hi) {
+            int runHi = lo + 1;
+            if (runHi == hi) return 1;
+
+            if (less(runHi, lo)) {
+                // Only strictly descending runs are reversed, to keep the sort stable.
+                runHi++;
+                while (runHi < hi && less(runHi, runHi - 1)) runHi++;
+                for (int i = lo, j = runHi - 1; i < j; i++, j--) {
+                    swap(i, j);
+                }
+            } else {
+                runHi++;
+                while (runHi < hi && !less(runHi, runHi - 1)) runHi++;
+            }
+            return runHi - lo;
+        }
+
+        /**
+         * Sorts a[lo] .. a[hi - 1], of which a[lo] .. a[start - 1] is already sorted,
+         * by binary searching the insertion point of every further element.
+         * The element stays at a[start] during its search and is moved once.
+         *
+         * Time Complexity: O(n log n) comparisons, O(n²) moves
+         */
+        private void binaryInsertionSort(int lo, int hi, int start) {
+            for (; start < hi; start++) {
+                int left = lo;
+                int right = start;
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (less(start, mid)) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                rotate(left, start);
+            }
+        }
+
+        /**
+         * Merges runs on the stack until the run lengths shrink at least like
+         * the Fibonacci numbers from the bottom to the top, which keeps the
+         * merges balanced and the stack short.
+         *
+         * Time Complexity: O(n) amortized per merged element
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+                        || (n > 1 && runLen[n - 2] <= runLen[n - 1] + runLen[n])) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Replaces the runs at stack positions i and i + 1 by one run and merges them.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int len1 = runLen[i];
+            int base2 = runBase[i + 1];
+            int len2 = runLen[i + 1];
+
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            merge(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Merger over objects: the array, the comparison and the scratch buffer.
+     * The buffer is allocated on the first merge and grown geometrically
+     * after that, so only one buffer is live at a time.
+     */
+    private static class ObjectMerger<T> extends Merger {
+        private final T[] a;
+        private final Comparator<T> comparator;
+        private T[] buffer;
+
+        ObjectMerger(T[] a, Comparator<T> comparator) {
+            this.a = a;
+            this.comparator = comparator;
+        }
+
+        @Override
+        boolean less(int i, int j) {
+            return comparator.compare(a[i], a[j]) < 0;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            T temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+
+        @Override
+        void rotate(int to, int from) {
+            T moved = a[from];
+            System.arraycopy(a, to, a, to + 1, from - to);
+            a[to] = moved;
+        }
+
+        @Override
+        void merge(int base1, int len1, int base2, int len2) {
+            int k = gallopRight(a[base2], a, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+            if (len2 == 0) return;
+
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs front to back, copying the shorter first run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            T[] tmp = scratch(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+
+            int i = 0;
+            int j = base2;
+            int end2 = base2 + len2;
+            int dest = base1;
+            while (i < len1 && j < end2) {
+                // Take one element at a time until one run wins MIN_GALLOP times in a row.
+                int count1 = 0;
+                int count2 = 0;
+                while (i < len1 && j < end2) {
+                    if (comparator.compare(a[j], tmp[i]) < 0) {
+                        a[dest++] = a[j++];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest++] = tmp[i++];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    }
+                }
+
+                // Then move whole blocks while the blocks stay long.
+                while (i < len1 && j < end2) {
+                    count1 = gallopRight(a[j], tmp, i, len1 - i, 0);
+                    System.arraycopy(tmp, i, a, dest, count1);
+                    dest += count1;
+                    i += count1;
+                    if (i == len1) break;
+
+                    count2 = gallopLeft(tmp[i], a, j, end2 - j, 0);
+                    System.arraycopy(a, j, a, dest, count2);
+                    dest += count2;
+                    j += count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the second run is already in place.
+            System.arraycopy(tmp, i, a, dest, len1 - i);
+        }
+
+        /**
+         * Merges two adjacent runs back to front, copying the shorter second run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            T[] tmp = scratch(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+
+            int i = base1 + len1 - 1;
+            int j = len2 - 1;
+            int dest = base2 + len2 - 1;
+            while (i >= base1 && j >= 0) {
+                int count1 = 0;
+                int count2 = 0;
+                while (i >= base1 && j >= 0) {
+                    if (comparator.compare(tmp[j], a[i]) < 0) {
+                        a[dest--] = a[i--];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest--] = tmp[j--];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    }
+                }
+
+                while (i >= base1 && j >= 0) {
+                    count1 = i - base1 + 1 - gallopRight(tmp[j], a, base1, i - base1 + 1, i - base1);
+                    System.arraycopy(a, i - count1 + 1, a, dest - count1 + 1, count1);
+                    dest -= count1;
+                    i -= count1;
+                    if (i < base1) break;
+
+                    count2 = j + 1 - gallopLeft(a[i], tmp, 0, j + 1, j);
+                    System.arraycopy(tmp, j - count2 + 1, a, dest - count2 + 1, count2);
+                    dest -= count2;
+                    j -= count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the first run is already in place.
+            System.arraycopy(tmp, 0, a, base1, j + 1);
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are smaller than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopLeft(T key, T[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (comparator.compare(run[base + hint], key) < 0) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && comparator.compare(run[base + hint + offset], key) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && comparator.compare(run[base + hint - offset], key) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            // The result is in (lo, hi].
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (comparator.compare(run[base + mid], key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are not larger than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopRight(T key, T[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (comparator.compare(key, run[base + hint]) >= 0) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && comparator.compare(key, run[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && comparator.compare(key, run[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (comparator.compare(key, run[base + mid]) < 0) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the scratch buffer, growing it to hold at least size elements.
+         * The buffer never needs more than half of the sorted range.
+         *
+         * Time Complexity: O(size) when the buffer grows, O(1) otherwise
+         */
+        @SuppressWarnings("unchecked")
+        private T[] scratch(int size) {
+            if (buffer == null || buffer.length < size) {
+                int capacity = buffer == null ? size : Math.max(size, Math.min(buffer.length * 2, a.length >>> 1));
+                buffer = (T[]) new Object[capacity];
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Merger over int values: the array, the comparison and the scratch buffer.
+     * The buffer is allocated on the first merge and grown geometrically
+     * after that, so only one buffer is live at a time.
+     */
+    private static class IntMerger extends Merger {
+        private final int[] a;
+        private int[] buffer;
+
+        IntMerger(int[] a) {
+            this.a = a;
+        }
+
+        @Override
+        boolean less(int i, int j) {
+            return a[i] < a[j];
+        }
+
+        @Override
+        void swap(int i, int j) {
+            int temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+
+        @Override
+        void rotate(int to, int from) {
+            int moved = a[from];
+            System.arraycopy(a, to, a, to + 1, from - to);
+            a[to] = moved;
+        }
+
+        @Override
+        void merge(int base1, int len1, int base2, int len2) {
+            int k = gallopRight(a[base2], a, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+            if (len2 == 0) return;
+
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs front to back, copying the shorter first run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            int[] tmp = scratch(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+
+            int i = 0;
+            int j = base2;
+            int end2 = base2 + len2;
+            int dest = base1;
+            while (i < len1 && j < end2) {
+                // Take one element at a time until one run wins MIN_GALLOP times in a row.
+                int count1 = 0;
+                int count2 = 0;
+                while (i < len1 && j < end2) {
+                    if (a[j] < tmp[i]) {
+                        a[dest++] = a[j++];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest++] = tmp[i++];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    }
+                }
+
+                // Then move whole blocks while the blocks stay long.
+                while (i < len1 && j < end2) {
+                    count1 = gallopRight(a[j], tmp, i, len1 - i, 0);
+                    System.arraycopy(tmp, i, a, dest, count1);
+                    dest += count1;
+                    i += count1;
+                    if (i == len1) break;
+
+                    count2 = gallopLeft(tmp[i], a, j, end2 - j, 0);
+                    System.arraycopy(a, j, a, dest, count2);
+                    dest += count2;
+                    j += count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the second run is already in place.
+            System.arraycopy(tmp, i, a, dest, len1 - i);
+        }
+
+        /**
+         * Merges two adjacent runs back to front, copying the shorter second run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            int[] tmp = scratch(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+
+            int i = base1 + len1 - 1;
+            int j = len2 - 1;
+            int dest = base2 + len2 - 1;
+            while (i >= base1 && j >= 0) {
+                int count1 = 0;
+                int count2 = 0;
+                while (i >= base1 && j >= 0) {
+                    if (tmp[j] < a[i]) {
+                        a[dest--] = a[i--];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest--] = tmp[j--];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    }
+                }
+
+                while (i >= base1 && j >= 0) {
+                    count1 = i - base1 + 1 - gallopRight(tmp[j], a, base1, i - base1 + 1, i - base1);
+                    System.arraycopy(a, i - count1 + 1, a, dest - count1 + 1, count1);
+                    dest -= count1;
+                    i -= count1;
+                    if (i < base1) break;
+
+                    count2 = j + 1 - gallopLeft(a[i], tmp, 0, j + 1, j);
+                    System.arraycopy(tmp, j - count2 + 1, a, dest - count2 + 1, count2);
+                    dest -= count2;
+                    j -= count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the first run is already in place.
+            System.arraycopy(tmp, 0, a, base1, j + 1);
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are smaller than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopLeft(int key, int[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (run[base + hint] < key) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && run[base + hint + offset] < key) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && run[base + hint - offset] >= key) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            // The result is in (lo, hi].
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (run[base + mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are not larger than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopRight(int key, int[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (key >= run[base + hint]) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && key >= run[base + hint + offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && key < run[base + hint - offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (key < run[base + mid]) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the scratch buffer, growing it to hold at least size elements.
+         * The buffer never needs more than half of the sorted range.
+         *
+         * Time Complexity: O(size) when the buffer grows, O(1) otherwise
+         */
+        private int[] scratch(int size) {
+            if (buffer == null || buffer.length < size) {
+                int capacity = buffer == null ? size : Math.max(size, Math.min(buffer.length * 2, a.length >>> 1));
+                buffer = new int[capacity];
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Merger over long values: the array, the comparison and the scratch buffer.
+     * The buffer is allocated on the first merge and grown geometrically
+     * after that, so only one buffer is live at a time.
+     */
+    private static class LongMerger extends Merger {
+        private final long[] a;
+        private long[] buffer;
+
+        LongMerger(long[] a) {
+            this.a = a;
+        }
+
+        @Override
+        boolean less(int i, int j) {
+            return a[i] < a[j];
+        }
+
+        @Override
+        void swap(int i, int j) {
+            long temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+
+        @Override
+        void rotate(int to, int from) {
+            long moved = a[from];
+            System.arraycopy(a, to, a, to + 1, from - to);
+            a[to] = moved;
+        }
+
+        @Override
+        void merge(int base1, int len1, int base2, int len2) {
+            int k = gallopRight(a[base2], a, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+            if (len2 == 0) return;
+
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs front to back, copying the shorter first run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            long[] tmp = scratch(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+
+            int i = 0;
+            int j = base2;
+            int end2 = base2 + len2;
+            int dest = base1;
+            while (i < len1 && j < end2) {
+                // Take one element at a time until one run wins MIN_GALLOP times in a row.
+                int count1 = 0;
+                int count2 = 0;
+                while (i < len1 && j < end2) {
+                    if (a[j] < tmp[i]) {
+                        a[dest++] = a[j++];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest++] = tmp[i++];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    }
+                }
+
+                // Then move whole blocks while the blocks stay long.
+                while (i < len1 && j < end2) {
+                    count1 = gallopRight(a[j], tmp, i, len1 - i, 0);
+                    System.arraycopy(tmp, i, a, dest, count1);
+                    dest += count1;
+                    i += count1;
+                    if (i == len1) break;
+
+                    count2 = gallopLeft(tmp[i], a, j, end2 - j, 0);
+                    System.arraycopy(a, j, a, dest, count2);
+                    dest += count2;
+                    j += count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the second run is already in place.
+            System.arraycopy(tmp, i, a, dest, len1 - i);
+        }
+
+        /**
+         * Merges two adjacent runs back to front, copying the shorter second run to the scratch buffer.
+         *
+         * Time Complexity: O(len1 + len2)
+         */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            long[] tmp = scratch(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+
+            int i = base1 + len1 - 1;
+            int j = len2 - 1;
+            int dest = base2 + len2 - 1;
+            while (i >= base1 && j >= 0) {
+                int count1 = 0;
+                int count2 = 0;
+                while (i >= base1 && j >= 0) {
+                    if (tmp[j] < a[i]) {
+                        a[dest--] = a[i--];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    } else {
+                        a[dest--] = tmp[j--];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    }
+                }
+
+                while (i >= base1 && j >= 0) {
+                    count1 = i - base1 + 1 - gallopRight(tmp[j], a, base1, i - base1 + 1, i - base1);
+                    System.arraycopy(a, i - count1 + 1, a, dest - count1 + 1, count1);
+                    dest -= count1;
+                    i -= count1;
+                    if (i < base1) break;
+
+                    count2 = j + 1 - gallopLeft(a[i], tmp, 0, j + 1, j);
+                    System.arraycopy(tmp, j - count2 + 1, a, dest - count2 + 1, count2);
+                    dest -= count2;
+                    j -= count2;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // What is left of the first run is already in place.
+            System.arraycopy(tmp, 0, a, base1, j + 1);
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are smaller than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopLeft(long key, long[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (run[base + hint] < key) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && run[base + hint + offset] < key) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && run[base + hint - offset] >= key) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            // The result is in (lo, hi].
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (run[base + mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the number of elements in run[base] .. run[base + len - 1]
+         * that are not larger than key, searching outwards from run[base + hint].
+         *
+         * Time Complexity: O(log d) where d is the distance between hint and the result
+         */
+        private int gallopRight(long key, long[] run, int base, int len, int hint) {
+            int lo;
+            int hi;
+            if (key >= run[base + hint]) {
+                int maxOffset = len - hint;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && key >= run[base + hint + offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint + lastOffset;
+                hi = hint + offset;
+            } else {
+                int maxOffset = hint + 1;
+                int lastOffset = 0;
+                int offset = 1;
+                while (offset < maxOffset && key < run[base + hint - offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) offset = maxOffset;
+                }
+                if (offset > maxOffset) offset = maxOffset;
+                lo = hint - offset;
+                hi = hint - lastOffset;
+            }
+
+            lo++;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (key < run[base + mid]) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return hi;
+        }
+
+        /**
+         * Returns the scratch buffer, growing it to hold at least size elements.
+         * The buffer never needs more than half of the sorted range.
+         *
+         * Time Complexity: O(size) when the buffer grows, O(1) otherwise
+         */
+        private long[] scratch(int size) {
+            if (buffer == null || buffer.length < size) {
+                int capacity = buffer == null ? size : Math.max(size, Math.min(buffer.length * 2, a.length >>> 1));
+                buffer = new long[capacity];
+            }
+            return buffer;
+        }
+    }
+}
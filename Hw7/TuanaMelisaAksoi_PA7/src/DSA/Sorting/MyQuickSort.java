@@ -1,30 +1,88 @@
 package DSA.Sorting;
 
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implementation of quicksort algorithm with optional hybrid sorting.
  * Uses a random pivot selection strategy and can switch to a different
  * sorting algorithm for small partitions to improve performance.
+ * Can optionally sort large ranges in parallel on the common ForkJoinPool.
+ *
+ * Partitioning is three-way, so runs of equal elements are placed in one
+ * pass and never recursed into. Recursion always goes into the smaller side
+ * and is limited to 2 log2(n) levels; a range that hits the limit is finished
+ * with heapsort, which bounds the worst case to O(n log n) time and
+ * O(log n) stack.
+ *
+ * The cutoff below which subSorter takes over is either fixed by the caller
+ * or, with MyQuickSort(GTUSorter), measured once per JVM by CutoffTuner,
+ * separately for primitive arrays and for comparator sorts.
  */
 public class MyQuickSort extends GTUSorter {
-    private Random random;
+    private static final MyHeapSort HEAP_SORTER = new MyHeapSort();
+
+    /** Marks a cutoff that CutoffTuner picks on first use. */
+    private static final int TUNED = -1;
+
     private GTUSorter subSorter;
     private int partitionLimit;
+    private int objectPartitionLimit;
+    private int parallelThreshold;
 
     /**
      * Creates a new quicksort instance with hybrid sorting capability.
      * @param subSorter The sorter to use for small partitions
      * @param partitionLimit The size limit below which to use subSorter
+     * @throws IllegalArgumentException if partitionLimit is negative
      * 
      * Time Complexity: O(1)
      */
     public MyQuickSort(GTUSorter subSorter, int partitionLimit) {
+        this(subSorter, partitionLimit, 0);
+    }
+
+    /**
+     * Creates a new parallel quicksort instance with hybrid sorting capability.
+     * Ranges larger than parallelThreshold are partitioned and both sides are
+     * sorted as separate fork-join tasks; smaller ranges are sorted sequentially
+     * as usual, including the hand-off to subSorter.
+     * @param subSorter The sorter to use for small partitions, or null
+     * @param partitionLimit The size limit below which to use subSorter
+     * @param parallelThreshold The size above which ranges are sorted in parallel, 0 to disable
+     * @throws IllegalArgumentException if partitionLimit is negative
+     * 
+     * Time Complexity: O(1)
+     */
+    public MyQuickSort(GTUSorter subSorter, int partitionLimit, int parallelThreshold) {
         super();
-        this.random = new Random();
+        if (partitionLimit < 0) {
+            throw new IllegalArgumentException("Partition limit cannot be negative: " + partitionLimit);
+        }
         this.subSorter = subSorter;
         this.partitionLimit = partitionLimit;
+        this.objectPartitionLimit = partitionLimit;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Creates a new quicksort instance with hybrid sorting capability whose
+     * cutoff is picked by a short benchmark on the running JVM (see CutoffTuner).
+     * The benchmark runs on the first sort, or earlier with tune(), and its
+     * result is shared by all instances whose subSorter is configured the same way.
+     * @param subSorter The sorter to use for small partitions
+     * 
+     * Time Complexity: O(1)
+     */
+    public MyQuickSort(GTUSorter subSorter) {
+        super();
+        this.subSorter = subSorter;
+        this.partitionLimit = TUNED;
+        this.objectPartitionLimit = TUNED;
+        this.parallelThreshold = 0;
     }
 
     /**
@@ -33,10 +91,37 @@ public class MyQuickSort extends GTUSorter {
      * Time Complexity: O(1)
      */
     public MyQuickSort() {
-        super();
-        this.random = new Random();
-        this.subSorter = null;
-        this.partitionLimit = 0;
+        this(null, 0, 0);
+    }
+
+    /**
+     * Pick the tuned cutoffs now instead of on the first sort. Callers that
+     * time their sorts, or share the sorter between threads, call this first
+     * so the benchmark is neither timed nor run by several threads at once.
+     * Does nothing for cutoffs fixed by the caller.
+     * 
+     * Time Complexity: O(1) once the cutoffs are cached, otherwise the benchmark of CutoffTuner
+     */
+    public void tune() {
+        if (partitionLimit == TUNED) {
+            partitionLimit = CutoffTuner.primitiveCutoff(subSorter);
+        }
+        if (objectPartitionLimit == TUNED) {
+            objectPartitionLimit = CutoffTuner.objectCutoff(subSorter);
+        }
+    }
+
+    /**
+     * Describe this sorter by its sub-sorter, cutoffs and parallel threshold.
+     * A tuned cutoff is described by its value once it has been measured.
+     * @return A list that compares by value.
+     *
+     * Time Complexity: O(1) per nested sorter
+     */
+    @Override
+    Object configuration() {
+        return Arrays.asList(getClass(), subSorter == null ? null : subSorter.configuration(),
+                partitionLimit, objectPartitionLimit, parallelThreshold);
     }
 
     /**
@@ -49,65 +134,552 @@ public class MyQuickSort extends GTUSorter {
      * @param comparator The comparator to determine the order of elements
      * 
      * Time Complexity:
-     * - Best case: O(n log n) with good pivot selection
+     * - Best case: O(n) when all elements are equal
      * - Average case: O(n log n)
-     * - Worst case: O(n²) with poor pivot selection
+     * - Worst case: O(n log n) thanks to the heapsort fallback
      */
     protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
         if (start >= end - 1) return;
+        if (objectPartitionLimit == TUNED) {
+            objectPartitionLimit = CutoffTuner.objectCutoff(subSorter);
+        }
 
+        // Read once, so metrics switched on or off during the call cannot be seen half way.
+        SortRecorder recorder = this.recorder;
         int size = end - start;
-        if (subSorter != null && size <= partitionLimit) {
-            subSorter.sort(table, start, end, comparator);
+        if (parallelThreshold > 0 && size > parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(start, end, depthLimit(size), 0, recorder, new RangeSorter() {
+                @Override
+                public long partition(int first, int last) {
+                    return MyQuickSort.this.partition(table, first, last, comparator, recorder);
+                }
+
+                @Override
+                public void sortSequential(int from, int to, int depth, int level) {
+                    sort(table, from, to, depth, level, comparator, recorder);
+                }
+            }));
             return;
         }
 
-        int pivotIndex = partition(table, start, end - 1, comparator);
-        sort(table, start, pivotIndex, comparator);
-        sort(table, pivotIndex + 1, end, comparator);
+        sort(table, start, end, depthLimit(size), 0, comparator, recorder);
+    }
+
+    /**
+     * Sorts a portion of an array with a bounded recursion depth.
+     * Recurses into the smaller side of each partition and loops on the larger one.
+     * @param <T> The type of elements in the array
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param depth Partitioning levels left before switching to heapsort
+     * @param level Partitioning levels above this range, for the metrics
+     * @param comparator The comparator to determine the order of elements
+     * @param recorder Metrics of this sort call, or null
+     * 
+     * Time Complexity: O(n log n)
+     */
+    private <T> void sort(T[] table, int start, int end, int depth, int level, Comparator<T> comparator,
+            SortRecorder recorder) {
+        while (end - start > 1) {
+            if (subSorter != null && end - start <= objectPartitionLimit) {
+                subSorter.sort(table, start, end, comparator);
+                return;
+            }
+            if (depth == 0) {
+                if (recorder != null) recorder.recordHeapsortFallback();
+                HEAP_SORTER.sort(table, start, end, comparator);
+                return;
+            }
+            depth--;
+
+            long begin = recorder == null ? 0L : System.nanoTime();
+            long bounds = partition(table, start, end - 1, comparator, recorder);
+            if (recorder != null) recorder.recordPartition(level, System.nanoTime() - begin);
+            level++;
+            int lower = lowerBound(bounds);
+            int upper = upperBound(bounds);
+            if (lower - start < end - upper - 1) {
+                sort(table, start, lower, depth, level, comparator, recorder);
+                start = upper + 1;
+            } else {
+                sort(table, upper + 1, end, depth, level, comparator, recorder);
+                end = lower;
+            }
+        }
     }
 
     /**
-     * Partitions the array around a randomly selected pivot.
+     * Partitions an array three ways around a randomly selected pivot.
+     * Afterwards table[first .. lower - 1] are smaller than the pivot,
+     * table[lower .. upper] are equal to it and table[upper + 1 .. last] are larger.
      * @param <T> The type of elements in the array
      * @param table The array to be partitioned
      * @param first The starting index of the partition
      * @param last The ending index of the partition
      * @param comparator The comparator to determine the order of elements
-     * @return The final position of the pivot element
+     * @param recorder Metrics of this sort call, or null
+     * @return lower and upper packed with bounds()
+     * 
+     * Time Complexity: O(n) where n is the size of the partition
+     */
+    private <T> long partition(T[] table, int first, int last, Comparator<T> comparator, SortRecorder recorder) {
+        int pivotIndex = first + ThreadLocalRandom.current().nextInt(last - first + 1);
+        T pivot = table[pivotIndex];
+        int lower = first;
+        int i = first;
+        int upper = last;
+
+        while (i <= upper) {
+            int order = comparator.compare(table[i], pivot);
+            if (order < 0) {
+                T temp = table[lower];
+                table[lower++] = table[i];
+                table[i++] = temp;
+            } else if (order > 0) {
+                T temp = table[upper];
+                table[upper--] = table[i];
+                table[i] = temp;
+            } else {
+                i++;
+            }
+        }
+
+        // Comparisons are counted by the comparator.
+        if (recorder != null) recorder.recordWork(0, (lower - first) + (long) (last - upper));
+        return bounds(lower, upper);
+    }
+
+    /**
+     * Sorts a portion of an array of int values using quicksort algorithm.
+     * For small partitions, uses the subSorter if configured.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity:
+     * - Best case: O(n) when all elements are equal
+     * - Average case: O(n log n)
+     * - Worst case: O(n log n) thanks to the heapsort fallback
+     */
+    protected void sort(int[] table, int start, int end) {
+        if (start >= end - 1) return;
+        if (partitionLimit == TUNED) {
+            partitionLimit = CutoffTuner.primitiveCutoff(subSorter);
+        }
+
+        SortRecorder recorder = this.recorder;
+        int size = end - start;
+        if (parallelThreshold > 0 && size > parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(start, end, depthLimit(size), 0, recorder, new RangeSorter() {
+                @Override
+                public long partition(int first, int last) {
+                    return MyQuickSort.this.partition(table, first, last, recorder);
+                }
+
+                @Override
+                public void sortSequential(int from, int to, int depth, int level) {
+                    sort(table, from, to, depth, level, recorder);
+                }
+            }));
+            return;
+        }
+
+        sort(table, start, end, depthLimit(size), 0, recorder);
+    }
+
+    /**
+     * Sorts a portion of an array of int values with a bounded recursion depth.
+     * Recurses into the smaller side of each partition and loops on the larger one.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param depth Partitioning levels left before switching to heapsort
+     * @param level Partitioning levels above this range, for the metrics
+     * @param recorder Metrics of this sort call, or null
+     * 
+     * Time Complexity: O(n log n)
+     */
+    private void sort(int[] table, int start, int end, int depth, int level, SortRecorder recorder) {
+        while (end - start > 1) {
+            if (subSorter != null && end - start <= partitionLimit) {
+                subSorter.sort(table, start, end);
+                return;
+            }
+            if (depth == 0) {
+                if (recorder != null) recorder.recordHeapsortFallback();
+                HEAP_SORTER.sort(table, start, end);
+                return;
+            }
+            depth--;
+
+            long begin = recorder == null ? 0L : System.nanoTime();
+            long bounds = partition(table, start, end - 1, recorder);
+            if (recorder != null) recorder.recordPartition(level, System.nanoTime() - begin);
+            level++;
+            int lower = lowerBound(bounds);
+            int upper = upperBound(bounds);
+            if (lower - start < end - upper - 1) {
+                sort(table, start, lower, depth, level, recorder);
+                start = upper + 1;
+            } else {
+                sort(table, upper + 1, end, depth, level, recorder);
+                end = lower;
+            }
+        }
+    }
+
+    /**
+     * Partitions an array of int values three ways around a randomly selected pivot.
+     * Afterwards table[first .. lower - 1] are smaller than the pivot,
+     * table[lower .. upper] are equal to it and table[upper + 1 .. last] are larger.
+     * @param table The array to be partitioned
+     * @param first The starting index of the partition
+     * @param last The ending index of the partition
+     * @param recorder Metrics of this sort call, or null
+     * @return lower and upper packed with bounds()
+     * 
+     * Time Complexity: O(n) where n is the size of the partition
+     */
+    private long partition(int[] table, int first, int last, SortRecorder recorder) {
+        int pivotIndex = first + ThreadLocalRandom.current().nextInt(last - first + 1);
+        int pivot = table[pivotIndex];
+        int lower = first;
+        int i = first;
+        int upper = last;
+
+        while (i <= upper) {
+            int order = Integer.compare(table[i], pivot);
+            if (order < 0) {
+                int temp = table[lower];
+                table[lower++] = table[i];
+                table[i++] = temp;
+            } else if (order > 0) {
+                int temp = table[upper];
+                table[upper--] = table[i];
+                table[i] = temp;
+            } else {
+                i++;
+            }
+        }
+
+        if (recorder != null) recorder.recordWork(last - first + 1L, (lower - first) + (long) (last - upper));
+        return bounds(lower, upper);
+    }
+
+    /**
+     * Sorts a portion of an array of long values using quicksort algorithm.
+     * For small partitions, uses the subSorter if configured.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity:
+     * - Best case: O(n) when all elements are equal
+     * - Average case: O(n log n)
+     * - Worst case: O(n log n) thanks to the heapsort fallback
+     */
+    protected void sort(long[] table, int start, int end) {
+        if (start >= end - 1) return;
+        if (partitionLimit == TUNED) {
+            partitionLimit = CutoffTuner.primitiveCutoff(subSorter);
+        }
+
+        SortRecorder recorder = this.recorder;
+        int size = end - start;
+        if (parallelThreshold > 0 && size > parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(start, end, depthLimit(size), 0, recorder, new RangeSorter() {
+                @Override
+                public long partition(int first, int last) {
+                    return MyQuickSort.this.partition(table, first, last, recorder);
+                }
+
+                @Override
+                public void sortSequential(int from, int to, int depth, int level) {
+                    sort(table, from, to, depth, level, recorder);
+                }
+            }));
+            return;
+        }
+
+        sort(table, start, end, depthLimit(size), 0, recorder);
+    }
+
+    /**
+     * Sorts a portion of an array of long values with a bounded recursion depth.
+     * Recurses into the smaller side of each partition and loops on the larger one.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param depth Partitioning levels left before switching to heapsort
+     * @param level Partitioning levels above this range, for the metrics
+     * @param recorder Metrics of this sort call, or null
+     * 
+     * Time Complexity: O(n log n)
+     */
+    private void sort(long[] table, int start, int end, int depth, int level, SortRecorder recorder) {
+        while (end - start > 1) {
+            if (subSorter != null && end - start <= partitionLimit) {
+                subSorter.sort(table, start, end);
+                return;
+            }
+            if (depth == 0) {
+                if (recorder != null) recorder.recordHeapsortFallback();
+                HEAP_SORTER.sort(table, start, end);
+                return;
+            }
+            depth--;
+
+            long begin = recorder == null ? 0L : System.nanoTime();
+            long bounds = partition(table, start, end - 1, recorder);
+            if (recorder != null) recorder.recordPartition(level, System.nanoTime() - begin);
+            level++;
+            int lower = lowerBound(bounds);
+            int upper = upperBound(bounds);
+            if (lower - start < end - upper - 1) {
+                sort(table, start, lower, depth, level, recorder);
+                start = upper + 1;
+            } else {
+                sort(table, upper + 1, end, depth, level, recorder);
+                end = lower;
+            }
+        }
+    }
+
+    /**
+     * Partitions an array of long values three ways around a randomly selected pivot.
+     * Afterwards table[first .. lower - 1] are smaller than the pivot,
+     * table[lower .. upper] are equal to it and table[upper + 1 .. last] are larger.
+     * @param table The array to be partitioned
+     * @param first The starting index of the partition
+     * @param last The ending index of the partition
+     * @param recorder Metrics of this sort call, or null
+     * @return lower and upper packed with bounds()
      * 
      * Time Complexity: O(n) where n is the size of the partition
      */
-    private <T> int partition(T[] table, int first, int last, Comparator<T> comparator) {
-        int pivotIndex = first + random.nextInt(last - first + 1);
-        T temp = table[first];
-        table[first] = table[pivotIndex];
-        table[pivotIndex] = temp;
-        
-        T pivot = table[first];
-        int left = first + 1;
-        int right = last;
+    private long partition(long[] table, int first, int last, SortRecorder recorder) {
+        int pivotIndex = first + ThreadLocalRandom.current().nextInt(last - first + 1);
+        long pivot = table[pivotIndex];
+        int lower = first;
+        int i = first;
+        int upper = last;
 
-        while (left <= right) {
-            while (left <= right && comparator.compare(table[left], pivot) <= 0) {
-                left++;
+        while (i <= upper) {
+            int order = Long.compare(table[i], pivot);
+            if (order < 0) {
+                long temp = table[lower];
+                table[lower++] = table[i];
+                table[i++] = temp;
+            } else if (order > 0) {
+                long temp = table[upper];
+                table[upper--] = table[i];
+                table[i] = temp;
+            } else {
+                i++;
             }
-            while (left <= right && comparator.compare(table[right], pivot) > 0) {
-                right--;
+        }
+
+        if (recorder != null) recorder.recordWork(last - first + 1L, (lower - first) + (long) (last - upper));
+        return bounds(lower, upper);
+    }
+
+    /**
+     * Sorts a portion of an array of double values using quicksort algorithm.
+     * For small partitions, uses the subSorter if configured.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity:
+     * - Best case: O(n) when all elements are equal
+     * - Average case: O(n log n)
+     * - Worst case: O(n log n) thanks to the heapsort fallback
+     */
+    protected void sort(double[] table, int start, int end) {
+        if (start >= end - 1) return;
+        if (partitionLimit == TUNED) {
+            partitionLimit = CutoffTuner.primitiveCutoff(subSorter);
+        }
+
+        SortRecorder recorder = this.recorder;
+        int size = end - start;
+        if (parallelThreshold > 0 && size > parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(start, end, depthLimit(size), 0, recorder, new RangeSorter() {
+                @Override
+                public long partition(int first, int last) {
+                    return MyQuickSort.this.partition(table, first, last, recorder);
+                }
+
+                @Override
+                public void sortSequential(int from, int to, int depth, int level) {
+                    sort(table, from, to, depth, level, recorder);
+                }
+            }));
+            return;
+        }
+
+        sort(table, start, end, depthLimit(size), 0, recorder);
+    }
+
+    /**
+     * Sorts a portion of an array of double values with a bounded recursion depth.
+     * Recurses into the smaller side of each partition and loops on the larger one.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param depth Partitioning levels left before switching to heapsort
+     * @param level Partitioning levels above this range, for the metrics
+     * @param recorder Metrics of this sort call, or null
+     * 
+     * Time Complexity: O(n log n)
+     */
+    private void sort(double[] table, int start, int end, int depth, int level, SortRecorder recorder) {
+        while (end - start > 1) {
+            if (subSorter != null && end - start <= partitionLimit) {
+                subSorter.sort(table, start, end);
+                return;
+            }
+            if (depth == 0) {
+                if (recorder != null) recorder.recordHeapsortFallback();
+                HEAP_SORTER.sort(table, start, end);
+                return;
             }
+            depth--;
+
+            long begin = recorder == null ? 0L : System.nanoTime();
+            long bounds = partition(table, start, end - 1, recorder);
+            if (recorder != null) recorder.recordPartition(level, System.nanoTime() - begin);
+            level++;
+            int lower = lowerBound(bounds);
+            int upper = upperBound(bounds);
+            if (lower - start < end - upper - 1) {
+                sort(table, start, lower, depth, level, recorder);
+                start = upper + 1;
+            } else {
+                sort(table, upper + 1, end, depth, level, recorder);
+                end = lower;
+            }
+        }
+    }
 
-            if (left < right) {
-                temp = table[left];
-                table[left] = table[right];
-                table[right] = temp;
+    /**
+     * Partitions an array of double values three ways around a randomly selected pivot.
+     * Afterwards table[first .. lower - 1] are smaller than the pivot,
+     * table[lower .. upper] are equal to it and table[upper + 1 .. last] are larger.
+     * @param table The array to be partitioned
+     * @param first The starting index of the partition
+     * @param last The ending index of the partition
+     * @param recorder Metrics of this sort call, or null
+     * @return lower and upper packed with bounds()
+     * 
+     * Time Complexity: O(n) where n is the size of the partition
+     */
+    private long partition(double[] table, int first, int last, SortRecorder recorder) {
+        int pivotIndex = first + ThreadLocalRandom.current().nextInt(last - first + 1);
+        double pivot = table[pivotIndex];
+        int lower = first;
+        int i = first;
+        int upper = last;
+
+        while (i <= upper) {
+            int order = Double.compare(table[i], pivot);
+            if (order < 0) {
+                double temp = table[lower];
+                table[lower++] = table[i];
+                table[i++] = temp;
+            } else if (order > 0) {
+                double temp = table[upper];
+                table[upper--] = table[i];
+                table[i] = temp;
+            } else {
+                i++;
             }
         }
 
-        
-        temp = table[first];
-        table[first] = table[right];
-        table[right] = temp;
+        if (recorder != null) recorder.recordWork(last - first + 1L, (lower - first) + (long) (last - upper));
+        return bounds(lower, upper);
+    }
+
+    /**
+     * Maximum partitioning depth before a range of the given size falls back to heapsort.
+     * @param size Number of elements in the range
+     * @return 2 * floor(log2(size))
+     * 
+     * Time Complexity: O(1)
+     */
+    private static int depthLimit(int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    /**
+     * Packs the bounds of the equal-to-pivot block into one long.
+     * 
+     * Time Complexity: O(1)
+     */
+    private static long bounds(int lower, int upper) {
+        return ((long) lower << 32) | (upper & 0xFFFFFFFFL);
+    }
+
+    private static int lowerBound(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    private static int upperBound(long bounds) {
+        return (int) bounds;
+    }
+
+    /**
+     * Partition and sequential-sort operations bound to one array,
+     * so RangeTask works the same for every array type.
+     */
+    private interface RangeSorter {
+        /**
+         * Partition table[first] .. table[last] three ways and return the packed bounds.
+         */
+        long partition(int first, int last);
+
+        /**
+         * Sort table[from] .. table[to - 1] on the current thread.
+         */
+        void sortSequential(int from, int to, int depth, int level);
+    }
+
+    /**
+     * Fork-join task that sorts one range of an array in parallel.
+     * Ranges above parallelThreshold are partitioned and both sides are
+     * forked; smaller ranges, and ranges that used up their depth, are
+     * handed to the sequential sort.
+     */
+    private class RangeTask extends RecursiveAction {
+        private final int start;
+        private final int end;
+        private final int depth;
+        private final int level;
+        private final SortRecorder recorder;
+        private final RangeSorter sorter;
+
+        RangeTask(int start, int end, int depth, int level, SortRecorder recorder, RangeSorter sorter) {
+            this.start = start;
+            this.end = end;
+            this.depth = depth;
+            this.level = level;
+            this.recorder = recorder;
+            this.sorter = sorter;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= parallelThreshold || depth == 0) {
+                sorter.sortSequential(start, end, depth, level);
+                return;
+            }
 
-        return right; 
+            long begin = recorder == null ? 0L : System.nanoTime();
+            long bounds = sorter.partition(start, end - 1);
+            if (recorder != null) recorder.recordPartition(level, System.nanoTime() - begin);
+            invokeAll(new RangeTask(start, lowerBound(bounds), depth - 1, level + 1, recorder, sorter),
+                    new RangeTask(upperBound(bounds) + 1, end, depth - 1, level + 1, recorder, sorter));
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,287 @@
+package DSA.Sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Implementation of LSD radix sort for integer keys.
+ * Sorts one byte of the key per pass with a stable counting sort, so int
+ * keys take at most 4 passes and long keys at most 8, independent of the
+ * input order. Passes where every element has the same byte are skipped,
+ * which makes small key ranges (such as vertex degrees) especially cheap.
+ *
+ * Radix sort cannot work with a comparator, so sorting with one is
+ * delegated to a comparison sorter given at construction.
+ */
+public class MyRadixSort extends GTUSorter {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int MASK = RADIX - 1;
+
+    /** Ranges up to this size are insertion sorted; counting 256 buckets does not pay off. */
+    private static final int SMALL_RANGE = 32;
+
+    private static final MyInsertSort SMALL_SORTER = new MyInsertSort();
+
+    private GTUSorter comparisonSorter;
+
+    /**
+     * Creates a new radix sort instance that uses the given sorter for comparator-based sorting.
+     * @param comparisonSorter The sorter to use when a comparator is given
+     *
+     * Time Complexity: O(1)
+     */
+    public MyRadixSort(GTUSorter comparisonSorter) {
+        super();
+        this.comparisonSorter = comparisonSorter;
+    }
+
+    /**
+     * Creates a new radix sort instance that uses merge sort for comparator-based sorting,
+     * so that sorting with a comparator is stable as well.
+     *
+     * Time Complexity: O(1)
+     */
+    public MyRadixSort() {
+        this(new MyMergeSort());
+    }
+
+    /**
+     * Describe this sorter by its comparison sorter.
+     * @return A list that compares by value.
+     *
+     * Time Complexity: O(1) per nested sorter
+     */
+    @Override
+    Object configuration() {
+        return Arrays.asList(getClass(), comparisonSorter == null ? null : comparisonSorter.configuration());
+    }
+
+    /**
+     * Sorts a portion of an array with the comparison sorter, since radix sort needs integer keys.
+     * @param <T> The type of elements in the array
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param comparator The comparator to determine the order of elements
+     *
+     * Time Complexity: that of the comparison sorter
+     */
+    protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
+        comparisonSorter.sort(table, start, end, comparator);
+    }
+
+    /**
+     * Sorts a portion of an array by an int key using LSD radix sort.
+     * The keys are extracted once and moved together with the elements.
+     * The sort is stable.
+     * @param <T> The type of elements in the array
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * @param key Extracts the sort key of an element
+     *
+     * Time Complexity: O(n) (at most 4 passes)
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> void sortByKey(T[] table, int start, int end, ToIntFunction<T> key) {
+        int n = end - start;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsInt(table[start + i]) ^ Integer.MIN_VALUE;
+        }
+
+        int[] keyBuffer = new int[n];
+        Object[] items = new Object[n];
+        System.arraycopy(table, start, items, 0, n);
+        Object[] itemBuffer = new Object[n];
+        int[] count = new int[RADIX + 1];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            if (!countDigits(keys, n, shift, count)) continue;
+            for (int i = 0; i < n; i++) {
+                int slot = count[(keys[i] >>> shift) & MASK]++;
+                keyBuffer[slot] = keys[i];
+                itemBuffer[slot] = items[i];
+            }
+            int[] tempKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = tempKeys;
+            Object[] tempItems = items;
+            items = itemBuffer;
+            itemBuffer = tempItems;
+        }
+
+        for (int i = 0; i < n; i++) {
+            table[start + i] = (T) items[i];
+        }
+    }
+
+    /**
+     * Sorts a portion of an array of int values using LSD radix sort.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) (at most 4 passes)
+     */
+    protected void sort(int[] table, int start, int end) {
+        int n = end - start;
+        if (n <= SMALL_RANGE) {
+            SMALL_SORTER.sort(table, start, end);
+            return;
+        }
+
+        // Flipping the sign bit makes signed order equal to unsigned order.
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = table[start + i] ^ Integer.MIN_VALUE;
+        }
+
+        int[] buffer = new int[n];
+        int[] count = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            if (!countDigits(keys, n, shift, count)) continue;
+            for (int i = 0; i < n; i++) {
+                buffer[count[(keys[i] >>> shift) & MASK]++] = keys[i];
+            }
+            int[] temp = keys;
+            keys = buffer;
+            buffer = temp;
+        }
+
+        for (int i = 0; i < n; i++) {
+            table[start + i] = keys[i] ^ Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sorts a portion of an array of long values using LSD radix sort.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) (at most 8 passes)
+     */
+    protected void sort(long[] table, int start, int end) {
+        int n = end - start;
+        if (n <= SMALL_RANGE) {
+            SMALL_SORTER.sort(table, start, end);
+            return;
+        }
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = table[start + i] ^ Long.MIN_VALUE;
+        }
+
+        sortUnsigned(keys);
+
+        for (int i = 0; i < n; i++) {
+            table[start + i] = keys[i] ^ Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sorts a portion of an array of double values using LSD radix sort.
+     * Each double is mapped to a long whose unsigned order matches
+     * Double.compare, so the result equals that of Arrays.sort(double[]).
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     *
+     * Time Complexity: O(n) (at most 8 passes)
+     */
+    protected void sort(double[] table, int start, int end) {
+        int n = end - start;
+        if (n <= SMALL_RANGE) {
+            SMALL_SORTER.sort(table, start, end);
+            return;
+        }
+
+        // Negative numbers: flip all bits; positive numbers: flip only the sign bit.
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(table[start + i]);
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        sortUnsigned(keys);
+
+        for (int i = 0; i < n; i++) {
+            long bits = keys[i];
+            table[start + i] = Double.longBitsToDouble(bits ^ ((~bits >> 63) | Long.MIN_VALUE));
+        }
+    }
+
+    /**
+     * Sorts long keys in unsigned order, one byte per pass.
+     * @param keys The keys to be sorted
+     *
+     * Time Complexity: O(n) (at most 8 passes)
+     */
+    private void sortUnsigned(long[] keys) {
+        int n = keys.length;
+        long[] buffer = new long[n];
+        int[] count = new int[RADIX + 1];
+        long[] source = keys;
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if (!countDigits(source, n, shift, count)) continue;
+            for (int i = 0; i < n; i++) {
+                buffer[count[(int) (source[i] >>> shift) & MASK]++] = source[i];
+            }
+            long[] temp = source;
+            source = buffer;
+            buffer = temp;
+        }
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, 0, n);
+        }
+    }
+
+    /**
+     * Counts the digits of one pass and turns the counts into bucket start positions.
+     * @param keys The keys
+     * @param n Number of keys
+     * @param shift Position of the digit
+     * @param count Output: count[d] becomes the first slot of digit d
+     * @return false if every key has the same digit, so the pass can be skipped
+     *
+     * Time Complexity: O(n + 256)
+     */
+    private static boolean countDigits(int[] keys, int n, int shift, int[] count) {
+        Arrays.fill(count, 0);
+        for (int i = 0; i < n; i++) {
+            count[((keys[i] >>> shift) & MASK) + 1]++;
+        }
+        return toStarts(count, n);
+    }
+
+    /**
+     * Counts the digits of one pass over long keys; see countDigits(int[], ...).
+     *
+     * Time Complexity: O(n + 256)
+     */
+    private static boolean countDigits(long[] keys, int n, int shift, int[] count) {
+        Arrays.fill(count, 0);
+        for (int i = 0; i < n; i++) {
+            count[((int) (keys[i] >>> shift) & MASK) + 1]++;
+        }
+        return toStarts(count, n);
+    }
+
+    /**
+     * Prefix-sums digit counts stored one slot to the right into start positions.
+     * @return false if one digit holds all n keys
+     *
+     * Time Complexity: O(256)
+     */
+    private static boolean toStarts(int[] count, int n) {
+        for (int d = 1; d <= RADIX; d++) {
+            if (count[d] == n) return false;
+            count[d] += count[d - 1];
+        }
+        return true;
+    }
+}
@@ -28,6 +28,7 @@ public class MySelectSort extends GTUSorter{
      * Time Complexity: O(n²) where n is the number of elements to sort
      */
     protected <T> void sort(T[] table, int start, int end, Comparator<T> comparator) {
+        long swaps = 0;
         for(int fill = start; fill < end - 1; fill++){
             int posMin = fill;
             for(int next = fill + 1; next < end; next++){
@@ -41,9 +42,114 @@ public class MySelectSort extends GTUSorter{
                 T temp = table[fill];
                 table[fill] = table[posMin];
                 table[posMin] = temp;
+                swaps++;
             }
         }
+
+        // Comparisons are counted by the comparator.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) recorder.recordWork(0, swaps);
     }
-}
 
+    /**
+     * Sorts a portion of an array of int values using selection sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n²) where n is the number of elements to sort
+     */
+    protected void sort(int[] table, int start, int end) {
+        long swaps = 0;
+        for (int fill = start; fill < end - 1; fill++) {
+            int posMin = fill;
+            for (int next = fill + 1; next < end; next++) {
+                if (table[next] < table[posMin]) {
+                    posMin = next;
+                }
+            }
 
+            if (posMin != fill) {
+                int temp = table[fill];
+                table[fill] = table[posMin];
+                table[posMin] = temp;
+                swaps++;
+            }
+        }
+
+        // Every pass compares the remaining elements with the current minimum.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) {
+            long n = Math.max(end - start, 0);
+            recorder.recordWork(n * (n - 1) / 2, swaps);
+        }
+    }
+
+    /**
+     * Sorts a portion of an array of long values using selection sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n²) where n is the number of elements to sort
+     */
+    protected void sort(long[] table, int start, int end) {
+        long swaps = 0;
+        for (int fill = start; fill < end - 1; fill++) {
+            int posMin = fill;
+            for (int next = fill + 1; next < end; next++) {
+                if (table[next] < table[posMin]) {
+                    posMin = next;
+                }
+            }
+
+            if (posMin != fill) {
+                long temp = table[fill];
+                table[fill] = table[posMin];
+                table[posMin] = temp;
+                swaps++;
+            }
+        }
+
+        // Every pass compares the remaining elements with the current minimum.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) {
+            long n = Math.max(end - start, 0);
+            recorder.recordWork(n * (n - 1) / 2, swaps);
+        }
+    }
+
+    /**
+     * Sorts a portion of an array of double values using selection sort algorithm.
+     * @param table The array to be sorted
+     * @param start The starting index (inclusive)
+     * @param end The ending index (exclusive)
+     * 
+     * Time Complexity: O(n²) where n is the number of elements to sort
+     */
+    protected void sort(double[] table, int start, int end) {
+        long swaps = 0;
+        for (int fill = start; fill < end - 1; fill++) {
+            int posMin = fill;
+            for (int next = fill + 1; next < end; next++) {
+                if (Double.compare(table[next], table[posMin]) < 0) {
+                    posMin = next;
+                }
+            }
+
+            if (posMin != fill) {
+                double temp = table[fill];
+                table[fill] = table[posMin];
+                table[posMin] = temp;
+                swaps++;
+            }
+        }
+
+        // Every pass compares the remaining elements with the current minimum.
+        SortRecorder recorder = this.recorder;
+        if (recorder != null) {
+            long n = Math.max(end - start, 0);
+            recorder.recordWork(n * (n - 1) / 2, swaps);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package DSA.Sorting;
+
+/**
+ * Snapshot of the metrics a GTUSorter collected while metrics were enabled.
+ * The values are copied when the snapshot is taken and do not change afterwards.
+ *
+ * Comparisons are counted for every sorter when sorting with a comparator.
+ * For primitive arrays they are counted by the sorters that do so cheaply:
+ * MyInsertSort, MySelectSort and the partitions of MyQuickSort. Swaps are
+ * element exchanges; insertion sort counts every shift by one position.
+ * Work a hybrid MyQuickSort hands to its sub-sorter on primitive arrays is
+ * reported by the sub-sorter's own metrics.
+ */
+public final class SortMetrics {
+    /** Snapshot of a sorter whose metrics are disabled. */
+    static final SortMetrics EMPTY = new SortMetrics(0, 0, 0, 0, 0, 0, 0, 0, 0, new long[Long.SIZE]);
+
+    private final long calls;
+    private final long elements;
+    private final long totalNanos;
+    private final long comparisons;
+    private final long swaps;
+    private final long partitions;
+    private final long partitionNanos;
+    private final long heapsortFallbacks;
+    private final long maxDepth;
+    private final long[] timeHistogram;
+
+    SortMetrics(long calls, long elements, long totalNanos, long comparisons, long swaps, long partitions,
+            long partitionNanos, long heapsortFallbacks, long maxDepth, long[] timeHistogram) {
+        this.calls = calls;
+        this.elements = elements;
+        this.totalNanos = totalNanos;
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.partitions = partitions;
+        this.partitionNanos = partitionNanos;
+        this.heapsortFallbacks = heapsortFallbacks;
+        this.maxDepth = maxDepth;
+        this.timeHistogram = timeHistogram;
+    }
+
+    /**
+     * Get the number of completed sort calls.
+     * @return Number of calls.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Get the total number of elements sorted by all calls.
+     * @return Number of elements.
+     */
+    public long getElements() {
+        return elements;
+    }
+
+    /**
+     * Get the total time spent in sort calls.
+     * @return Time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Get the number of element comparisons.
+     * @return Number of comparisons.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Get the number of element swaps.
+     * @return Number of swaps.
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * Get the number of quicksort partitions.
+     * @return Number of partitions.
+     */
+    public long getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Get the total time spent partitioning.
+     * @return Time in nanoseconds.
+     */
+    public long getPartitionNanos() {
+        return partitionNanos;
+    }
+
+    /**
+     * Get the number of quicksort ranges that hit the depth limit and were heapsorted.
+     * A non-zero value points to an input that is bad for quicksort.
+     * @return Number of fallbacks.
+     */
+    public long getHeapsortFallbacks() {
+        return heapsortFallbacks;
+    }
+
+    /**
+     * Get the deepest quicksort partitioning level reached by any call.
+     * @return Number of nested partitions.
+     */
+    public long getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Get the durations of the sort calls as a histogram.
+     * Entry i counts the calls that took between 2^i and 2^(i+1) - 1 nanoseconds.
+     * @return A copy of the histogram.
+     */
+    public long[] getTimeHistogram() {
+        return timeHistogram.clone();
+    }
+
+    /**
+     * Format the metrics on one line, listing only the non-empty histogram buckets.
+     * @return The metrics as text.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("calls=").append(calls)
+                .append(" elements=").append(elements)
+                .append(" totalNanos=").append(totalNanos)
+                .append(" comparisons=").append(comparisons)
+                .append(" swaps=").append(swaps)
+                .append(" partitions=").append(partitions)
+                .append(" partitionNanos=").append(partitionNanos)
+                .append(" heapsortFallbacks=").append(heapsortFallbacks)
+                .append(" maxDepth=").append(maxDepth)
+                .append(" timeHistogram={");
+        boolean first = true;
+        for (int i = 0; i < timeHistogram.length; i++) {
+            if (timeHistogram[i] == 0) continue;
+            if (!first) builder.append(", ");
+            builder.append("2^").append(i).append("ns=").append(timeHistogram[i]);
+            first = false;
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,108 @@
+package DSA.Sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of one GTUSorter while metrics are enabled.
+ * Counters are LongAdders, so parallel sorts can record without contention.
+ */
+final class SortRecorder {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder partitions = new LongAdder();
+    private final LongAdder partitionNanos = new LongAdder();
+    private final LongAdder heapsortFallbacks = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] timeHistogram = new LongAdder[Long.SIZE];
+
+    SortRecorder() {
+        for (int i = 0; i < timeHistogram.length; i++) {
+            timeHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a finished sort call.
+     * @param n Number of elements sorted.
+     * @param nanos Duration of the call.
+     *
+     * Time Complexity: O(1)
+     */
+    void recordCall(int n, long nanos) {
+        calls.increment();
+        elements.add(n);
+        totalNanos.add(nanos);
+        timeHistogram[63 - Long.numberOfLeadingZeros(Math.max(nanos, 1))].increment();
+    }
+
+    /**
+     * Record comparisons and swaps done by a sort.
+     *
+     * Time Complexity: O(1)
+     */
+    void recordWork(long comparisonCount, long swapCount) {
+        comparisons.add(comparisonCount);
+        swaps.add(swapCount);
+    }
+
+    /**
+     * Record one quicksort partition. Its comparisons and swaps are recorded separately.
+     * @param level Number of partitions above this one.
+     * @param nanos Duration of the partition.
+     *
+     * Time Complexity: O(1)
+     */
+    void recordPartition(int level, long nanos) {
+        partitions.increment();
+        partitionNanos.add(nanos);
+        maxDepth.accumulate(level + 1);
+    }
+
+    /**
+     * Record a quicksort range that was finished with heapsort.
+     *
+     * Time Complexity: O(1)
+     */
+    void recordHeapsortFallback() {
+        heapsortFallbacks.increment();
+    }
+
+    /**
+     * Wrap a comparator so that every comparison is counted.
+     * @param <T> The type of the compared elements.
+     * @param comparator The comparator to be wrapped.
+     * @return The counting comparator.
+     *
+     * Time Complexity: O(1)
+     */
+    <T> Comparator<T> counting(Comparator<T> comparator) {
+        return new Comparator<T>() {
+            @Override
+            public int compare(T a, T b) {
+                comparisons.increment();
+                return comparator.compare(a, b);
+            }
+        };
+    }
+
+    /**
+     * Copy the current values into a snapshot.
+     * Values recorded concurrently may or may not be included.
+     * @return The snapshot.
+     *
+     * Time Complexity: O(1)
+     */
+    SortMetrics snapshot() {
+        long[] histogram = new long[timeHistogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = timeHistogram[i].sum();
+        }
+        return new SortMetrics(calls.sum(), elements.sum(), totalNanos.sum(), comparisons.sum(), swaps.sum(),
+                partitions.sum(), partitionNanos.sum(), heapsortFallbacks.sum(), maxDepth.get(), histogram);
+    }
+}
@@ -1,69 +1,89 @@
 package Main;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import DSA.Graphs.GTUGraph;
+import DSA.Graphs.GCA.ComponentGCA;
 import DSA.Graphs.GCA.GCASolution;
-import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Sorting.ExternalSorter;
 import DSA.Sorting.GTUSorter;
 import DSA.Sorting.MyInsertSort;
 import DSA.Sorting.MySelectSort;
 import DSA.Sorting.MyQuickSort;
 import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.IO.EdgeFileReader;
+import DSA.IO.EdgeSink;
+import DSA.IO.NumberWriter;
 
 public class Main {
+    /** Number of values sorted in memory at a time by --external. */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
     public static void main(String[] args) {
         if (args.length < 2) {
-            System.err.println("Error: Too few arguments. (Expected: <int:input_file> <String:output_path>)");
+            System.err.println("Error: Too few arguments. (Expected: <int:input_file> <String:output_path> [--external[=chunkSize]] [--concurrent])");
             return;
         }
 
-        try {
-            File file = new File(args[0]);
-            Scanner scanner = new Scanner(file);
-    
-            Integer graph_size = Integer.parseInt(scanner.nextLine().strip());
-            ArrayList<Integer> arr = new ArrayList<>();
-    
-            while (scanner.hasNextLine()) {
-                String line[] = scanner.nextLine().strip().split(" ");
-                arr.add(Integer.parseInt(line[0]) + Integer.parseInt(line[1]));
+        // Optional arguments:
+        //   --external[=chunkSize] sorts through temporary files.
+        //   --concurrent runs every sorter and coloring as its own task and reports the times.
+        int chunkSize = 0;
+        boolean concurrent = false;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--external")) {
+                chunkSize = DEFAULT_CHUNK_SIZE;
+            } else if (args[i].startsWith("--external=")) {
+                String value = args[i].substring("--external=".length());
+                try {
+                    chunkSize = Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    chunkSize = 0;
+                }
+                if (chunkSize <= 0) {
+                    System.err.printf("Error: Invalid chunk size %s (Expected: a positive integer)\n", value);
+                    return;
+                }
+            } else if (args[i].equals("--concurrent")) {
+                concurrent = true;
+            } else {
+                System.err.printf("Error: Unknown option %s (Expected: --external[=chunkSize] or --concurrent)\n", args[i]);
+                return;
             }
-    
-            scanner.close();
-    
+        }
+
+        try {
             ArrayList<GTUSorter> sorters = new ArrayList<>();
             ArrayList<String> names = new ArrayList<>();
     
             sorters.add(new MyInsertSort());                         names.add("MyInsertSort");
             sorters.add(new MySelectSort());                         names.add("MySelectSort");
             sorters.add(new MyQuickSort());                          names.add("MyQuickSort");
-            sorters.add(new MyQuickSort(new MyInsertSort(), 10));    names.add("MyQuickSort_MyInsertSort");
-            sorters.add(new MyQuickSort(new MySelectSort(), 10));    names.add("MyQuickSort_MySelectSort");
-    
-            Integer[] tempArr = new Integer[arr.size()];
-            for (int i = 0; i < sorters.size(); i++) {
-                GTUSorter sorter = sorters.get(i);
-                String name = names.get(i);
-    
-                arr.toArray(tempArr);
-                sorter.sort(tempArr, new Comparator<Integer>() {
-                    @Override
-                    public int compare(Integer arg0, Integer arg1) {
-                        return arg1.compareTo(arg0);
-                    }
-                });
-                
-                File result = new File(args[1] + name + ".txt");
-                FileWriter writer = new FileWriter(result);
-                for (Integer integer : tempArr) {
-                    writer.write(integer.toString() + "\n");
+            sorters.add(new MyQuickSort(new MyInsertSort()));        names.add("MyQuickSort_MyInsertSort");
+            sorters.add(new MyQuickSort(new MySelectSort()));        names.add("MyQuickSort_MySelectSort");
+
+            if (concurrent) {
+                runConcurrent(args[0], args[1], sorters, names, chunkSize);
+                return;
+            }
+
+            if (chunkSize > 0) {
+                for (int i = 0; i < sorters.size(); i++) {
+                    writeSortedExternal(args[0], args[1] + names.get(i) + ".txt", sorters.get(i), chunkSize);
+                }
+            } else {
+                int[] values = readEdgeSums(args[0]);
+                for (int i = 0; i < sorters.size(); i++) {
+                    writeSorted(values, args[1] + names.get(i) + ".txt", sorters.get(i));
                 }
-                writer.close();
             }
 
             GTUGraph graph = new MatrixGraph();
@@ -74,7 +94,7 @@ public class Main {
                 GTUSorter sorter = sorters.get(i);
                 String name = names.get(i);
                 
-                GCASolution solution = GreedyGCA.solve(graph, sorter);
+                GCASolution solution = new ComponentGCA(sorter).solve(graph);
     
                 solution.writeSolution(args[1] + name + "_color.txt");
             }
@@ -84,4 +104,196 @@ public class Main {
             return;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Produce the same files as the sequential mode, running every sort and
+     * every coloring as a separate task on a thread pool. Each task writes its
+     * own file. The time of every task is printed once all are done.
+     * The graph is only read by the coloring tasks, so they can share it.
+     * @param inputPath Path to the edge file.
+     * @param outputPath Prefix of the output files.
+     * @param sorters Sorters to be used.
+     * @param names Output file name of every sorter.
+     * @param chunkSize Chunk size for external sorting, 0 to sort in memory.
+     * @throws Exception if a task fails; the first failure is rethrown.
+     */
+    private static void runConcurrent(String inputPath, String outputPath, ArrayList<GTUSorter> sorters,
+            ArrayList<String> names, int chunkSize) throws Exception {
+        int[] values = chunkSize > 0 ? null : readEdgeSums(inputPath);
+        GTUGraph graph = new MatrixGraph();
+        GTUGraph.readGraph(inputPath, graph);
+
+        // Tune the hybrid quicksorts before any task starts, so the benchmark is not timed as sorting.
+        for (GTUSorter sorter : sorters) {
+            if (sorter instanceof MyQuickSort) {
+                ((MyQuickSort) sorter).tune();
+            }
+        }
+
+        ArrayList<String> taskNames = new ArrayList<>();
+        ArrayList<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < sorters.size(); i++) {
+            GTUSorter sorter = sorters.get(i);
+            String sortedFile = outputPath + names.get(i) + ".txt";
+            taskNames.add(names.get(i));
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    if (values == null) {
+                        writeSortedExternal(inputPath, sortedFile, sorter, chunkSize);
+                    } else {
+                        writeSorted(values, sortedFile, sorter);
+                    }
+                    return null;
+                }
+            });
+        }
+        taskNames.add("graph");
+        tasks.add(new Callable<Void>() {
+            @Override
+            public Void call() {
+                GTUGraph.writeGraph(outputPath + "graph.txt", graph);
+                return null;
+            }
+        });
+        for (int i = 0; i < sorters.size(); i++) {
+            GTUSorter sorter = sorters.get(i);
+            String colorFile = outputPath + names.get(i) + "_color.txt";
+            taskNames.add(names.get(i) + "_color");
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    new ComponentGCA(sorter).solve(graph).writeSolution(colorFile);
+                    return null;
+                }
+            });
+        }
+
+        int threads = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] elapsed = new long[tasks.size()];
+        long begin = System.nanoTime();
+        try {
+            ArrayList<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                Callable<Void> task = tasks.get(i);
+                int index = i;
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        long start = System.nanoTime();
+                        task.call();
+                        elapsed[index] = System.nanoTime() - start;
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long total = System.nanoTime() - begin;
+
+        // Future.get() makes the times written by the tasks visible here.
+        for (int i = 0; i < tasks.size(); i++) {
+            System.out.printf("%-30s %10.3f ms\n", taskNames.get(i), elapsed[i] / 1e6);
+        }
+        System.out.printf("%-30s %10.3f ms (%d threads)\n", "total", total / 1e6, threads);
+    }
+
+    /**
+     * Read the edge file and return the sum of the two vertices of every edge.
+     * @param inputPath Path to the edge file.
+     * @return The sums in file order.
+     * @throws IOException if the file cannot be read.
+     */
+    private static int[] readEdgeSums(String inputPath) throws IOException {
+        EdgeSums sums = new EdgeSums();
+        EdgeFileReader.read(inputPath, sums);
+        return Arrays.copyOf(sums.values, sums.count);
+    }
+
+    /**
+     * Sort a copy of the values in descending order and write it to a file, one value per line.
+     * @param values Values to be sorted; not modified.
+     * @param outputPath Path to the output file.
+     * @param sorter Sorter to be used.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeSorted(int[] values, String outputPath, GTUSorter sorter) throws IOException {
+        int[] tempArr = values.clone();
+        sorter.sortDescending(tempArr);
+
+        try (NumberWriter writer = new NumberWriter(outputPath)) {
+            for (int value : tempArr) {
+                writer.writeLine(value);
+            }
+        }
+    }
+
+    /**
+     * Sort the edge sums of the input file in descending order with a bounded
+     * amount of memory and write them to a file. Edges are streamed from the
+     * file, so the input may be larger than the heap.
+     * @param inputPath Path to the edge file.
+     * @param outputPath Path to the output file.
+     * @param sorter Sorter used for every chunk.
+     * @param chunkSize Number of values sorted in memory at a time.
+     * @throws IOException if a file cannot be read or written.
+     */
+    private static void writeSortedExternal(String inputPath, String outputPath, GTUSorter sorter, int chunkSize)
+            throws IOException {
+        try (ExternalSorter externalSorter = new ExternalSorter(sorter, chunkSize, true)) {
+            EdgeFileReader.read(inputPath, new EdgeSink() {
+                @Override
+                public void begin(int vertexCount) {
+                }
+
+                @Override
+                public void edges(int[] from, int[] to, int count) {
+                    try {
+                        for (int i = 0; i < count; i++) {
+                            externalSorter.add(from[i] + to[i]);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+
+            try (NumberWriter writer = new NumberWriter(outputPath)) {
+                externalSorter.writeSorted(writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Sink of readEdgeSums that appends the sum of every edge to a growing array.
+     */
+    private static class EdgeSums implements EdgeSink {
+        private int[] values = new int[1024];
+        private int count = 0;
+
+        @Override
+        public void begin(int vertexCount) {
+        }
+
+        @Override
+        public void edges(int[] from, int[] to, int count) {
+            if (this.count + count > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, this.count + count));
+            }
+            for (int i = 0; i < count; i++) {
+                values[this.count++] = from[i] + to[i];
+            }
+        }
+    }
+}
@@ -3,8 +3,25 @@ package Main;
 import DSA.Sorting.*;
 import DSA.Graphs.*;
 import DSA.Graphs.MatrixGraph.*;
+import DSA.Graphs.CsrGraph.*;
+import DSA.Graphs.GCA.*;
+import DSA.Graphs.Traversal.*;
+import DSA.IO.EdgeFileReader;
+import DSA.IO.EdgeSink;
+import DSA.IO.NumberWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Comparator;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
 
 public class MyTests {
     public static void main(String[] args) {
@@ -17,6 +34,48 @@ public class MyTests {
             allTestsPassed = false;
         }
 
+        if (testPrimitiveSorter()) {
+            System.out.println("Primitive sorter tests passed");
+        } else {
+            System.out.println("Primitive sorter tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testSortByKey()) {
+            System.out.println("Key sorter tests passed");
+        } else {
+            System.out.println("Key sorter tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testMergeSort()) {
+            System.out.println("Merge sort tests passed");
+        } else {
+            System.out.println("Merge sort tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testCutoffTuner()) {
+            System.out.println("Cutoff tuner tests passed");
+        } else {
+            System.out.println("Cutoff tuner tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testExternalSorter()) {
+            System.out.println("External sorter tests passed");
+        } else {
+            System.out.println("External sorter tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testSortMetrics()) {
+            System.out.println("Sort metrics tests passed");
+        } else {
+            System.out.println("Sort metrics tests failed");
+            allTestsPassed = false;
+        }
+
         if (testMatrixGraph()) {
             System.out.println("MatrixGraph tests passed");
         } else {
@@ -31,6 +90,69 @@ public class MyTests {
             allTestsPassed = false;
         }
 
+        if (testAdjacencyVectSetOps()) {
+            System.out.println("AdjacencyVect set operation tests passed");
+        } else {
+            System.out.println("AdjacencyVect set operation tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testCsrGraph()) {
+            System.out.println("CsrGraph tests passed");
+        } else {
+            System.out.println("CsrGraph tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testEdgeFileReader()) {
+            System.out.println("Edge file reader tests passed");
+        } else {
+            System.out.println("Edge file reader tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testGraphDegrees()) {
+            System.out.println("Graph degree tests passed");
+        } else {
+            System.out.println("Graph degree tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testGraphSnapshot()) {
+            System.out.println("Graph snapshot tests passed");
+        } else {
+            System.out.println("Graph snapshot tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testTraversal()) {
+            System.out.println("Traversal tests passed");
+        } else {
+            System.out.println("Traversal tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testGreedyGCA()) {
+            System.out.println("GreedyGCA tests passed");
+        } else {
+            System.out.println("GreedyGCA tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testGCAStrategies()) {
+            System.out.println("GCA strategy tests passed");
+        } else {
+            System.out.println("GCA strategy tests failed");
+            allTestsPassed = false;
+        }
+
+        if (testIncrementalGCA()) {
+            System.out.println("Incremental GCA tests passed");
+        } else {
+            System.out.println("Incremental GCA tests failed");
+            allTestsPassed = false;
+        }
+
         if (allTestsPassed) {
             System.out.println("All tests passed successfully!");
         } else {
@@ -54,7 +176,12 @@ public class MyTests {
             new MySelectSort(),
             new MyQuickSort(),
             new MyQuickSort(new MyInsertSort(), 10),
-            new MyQuickSort(new MySelectSort(), 10)
+            new MyQuickSort(new MySelectSort(), 10),
+            new MyQuickSort(new MyInsertSort(), 10, 2),
+            new MyQuickSort(new MySelectSort()),
+            new MyHeapSort(),
+            new MyMergeSort(),
+            new MyRadixSort()
         };
 
         for (GTUSorter sorter : sorters) {
@@ -142,6 +269,494 @@ public class MyTests {
         return allPassed;
     }
 
+    private static boolean testPrimitiveSorter() {
+        boolean allPassed = true;
+
+        GTUSorter[] sorters = {
+            new MyInsertSort(),
+            new MySelectSort(),
+            new MyQuickSort(),
+            new MyQuickSort(new MyInsertSort(), 10),
+            new MyQuickSort(new MySelectSort(), 10),
+            new MyQuickSort(new MyInsertSort(), 10, 64),
+            new MyQuickSort(new MyInsertSort()),
+            new MyHeapSort(),
+            new MyMergeSort(),
+            new MyRadixSort()
+        };
+
+        Random random = new Random(1);
+        for (GTUSorter sorter : sorters) {
+            String name = sorter.getClass().getSimpleName();
+            for (int n : new int[] {0, 1, 2, 50, 500}) {
+                // Test int arrays with many duplicates, ascending and descending
+                int[] ints = random.ints(n, -20, 20).toArray();
+                int[] expectedInts = ints.clone();
+                Arrays.sort(expectedInts);
+                int[] testInts = ints.clone();
+                sorter.sort(testInts);
+                if (!Arrays.equals(testInts, expectedInts)) {
+                    System.out.println("Failed to sort int array with " + name);
+                    allPassed = false;
+                }
+                testInts = ints.clone();
+                sorter.sortDescending(testInts);
+                for (int i = 0; i < n; i++) {
+                    if (testInts[i] != expectedInts[n - 1 - i]) {
+                        System.out.println("Failed to sort int array descending with " + name);
+                        allPassed = false;
+                        break;
+                    }
+                }
+
+                // Test long arrays
+                long[] longs = random.longs(n).toArray();
+                long[] expectedLongs = longs.clone();
+                Arrays.sort(expectedLongs);
+                sorter.sort(longs);
+                if (!Arrays.equals(longs, expectedLongs)) {
+                    System.out.println("Failed to sort long array with " + name);
+                    allPassed = false;
+                }
+
+                // Test double arrays with signed zeros and NaN
+                double[] doubles = random.doubles(n, -1, 1).toArray();
+                if (n > 2) {
+                    doubles[0] = Double.NaN;
+                    doubles[1] = -0.0;
+                    doubles[2] = 0.0;
+                }
+                double[] expectedDoubles = doubles.clone();
+                Arrays.sort(expectedDoubles);
+                sorter.sort(doubles);
+                if (!Arrays.equals(doubles, expectedDoubles)) {
+                    System.out.println("Failed to sort double array with " + name);
+                    allPassed = false;
+                }
+            }
+        }
+
+        // Test inputs that used to make quicksort quadratic or overflow the stack
+        int[] equal = new int[1 << 20];
+        new MyQuickSort().sort(equal);
+        Integer[] ascending = new Integer[1 << 16];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i % 3;
+        }
+        new MyQuickSort().sort(ascending, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return a.compareTo(b);
+            }
+        });
+        if (!isSorted(ascending)) {
+            System.out.println("Failed to sort array with few distinct values with MyQuickSort");
+            allPassed = false;
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testSortByKey() {
+        boolean allPassed = true;
+
+        GTUSorter[] sorters = {
+            new MyInsertSort(),
+            new MySelectSort(),
+            new MyQuickSort(new MyInsertSort(), 10),
+            new MyHeapSort(),
+            new MyMergeSort(),
+            new MyRadixSort()
+        };
+
+        // Sort positions by a key with many duplicates, including negative keys;
+        // equal keys must keep their positions in ascending order
+        Random random = new Random(7);
+        int[] keys = random.ints(1000, -50, 50).toArray();
+        keys[0] = Integer.MIN_VALUE;
+        keys[1] = Integer.MAX_VALUE;
+        for (GTUSorter sorter : sorters) {
+            Integer[] positions = new Integer[keys.length];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+            sorter.sortByKey(positions, new ToIntFunction<Integer>() {
+                @Override
+                public int applyAsInt(Integer i) {
+                    return keys[i];
+                }
+            });
+            for (int i = 1; i < positions.length; i++) {
+                int previous = keys[positions[i - 1]];
+                int current = keys[positions[i]];
+                if (previous > current || (previous == current && positions[i - 1] > positions[i])) {
+                    System.out.println("Failed to sort by key with " + sorter.getClass().getSimpleName());
+                    allPassed = false;
+                    break;
+                }
+            }
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testMergeSort() {
+        boolean allPassed = true;
+        MyMergeSort sorter = new MyMergeSort();
+
+        // Test inputs made of runs: sorted with a few misplaced elements,
+        // alternating ascending and descending blocks, and a sawtooth
+        Random random = new Random(5);
+        int n = 100000;
+        int[][] inputs = new int[3][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = (i / 1000) % 2 == 0 ? i : -i;
+            inputs[2][i] = i % 777;
+        }
+        for (int i = 0; i < 100; i++) {
+            inputs[0][random.nextInt(n)] = random.nextInt(n);
+        }
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            sorter.sort(input);
+            if (!Arrays.equals(input, expected)) {
+                System.out.println("Failed to sort runs with MyMergeSort");
+                allPassed = false;
+            }
+        }
+
+        // Test stability: sort positions by a coarse key, equal keys must stay in order
+        int[] keys = random.ints(5000, 0, 20).toArray();
+        Integer[] positions = new Integer[keys.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        sorter.sort(positions, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Integer.compare(keys[a], keys[b]);
+            }
+        });
+        for (int i = 1; i < positions.length; i++) {
+            int previous = keys[positions[i - 1]];
+            int current = keys[positions[i]];
+            if (previous > current || (previous == current && positions[i - 1] > positions[i])) {
+                System.out.println("Failed: MyMergeSort is not stable");
+                allPassed = false;
+                break;
+            }
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testCutoffTuner() {
+        boolean allPassed = true;
+
+        // Test that tuned cutoffs are sensible and cached
+        GTUSorter[] subSorters = {new MyInsertSort(), new MySelectSort()};
+        for (GTUSorter subSorter : subSorters) {
+            int primitive = CutoffTuner.primitiveCutoff(subSorter);
+            int object = CutoffTuner.objectCutoff(subSorter);
+            if (primitive < 4 || primitive > 64 || object < 4 || object > 64) {
+                System.out.println("Failed: Cutoff out of range for " + subSorter.getClass().getSimpleName());
+                allPassed = false;
+            }
+            if (CutoffTuner.primitiveCutoff(subSorter) != primitive || CutoffTuner.objectCutoff(subSorter) != object) {
+                System.out.println("Failed: Cutoff not cached for " + subSorter.getClass().getSimpleName());
+                allPassed = false;
+            }
+        }
+
+        // Test that equally configured sub-sorters share one cutoff
+        if (CutoffTuner.primitiveCutoff(new MyInsertSort()) != CutoffTuner.primitiveCutoff(subSorters[0])
+                || CutoffTuner.primitiveCutoff(new MyQuickSort(new MyInsertSort(), 8))
+                        != CutoffTuner.primitiveCutoff(new MyQuickSort(new MyInsertSort(), 8))) {
+            System.out.println("Failed: Equally configured sub-sorters should share a cutoff");
+            allPassed = false;
+        }
+
+        // Test that threads asking for a new configuration at once all get the published cutoff
+        GTUSorter fresh = new MyRadixSort(new MyHeapSort());
+        int[] seen = new int[4];
+        Thread[] threads = new Thread[seen.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    seen[index] = CutoffTuner.primitiveCutoff(new MyRadixSort(new MyHeapSort()));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (int cutoff : seen) {
+            if (cutoff != CutoffTuner.primitiveCutoff(fresh)) {
+                System.out.println("Failed: Concurrent tuning should give every caller the same cutoff");
+                allPassed = false;
+                break;
+            }
+        }
+
+        // Test that tune() picks the cached cutoffs up front
+        MyQuickSort tuned = new MyQuickSort(new MyInsertSort());
+        tuned.tune();
+        tuned.tune();
+        int[] sample = new Random(5).ints(1000).toArray();
+        tuned.sort(sample);
+        for (int i = 1; i < sample.length; i++) {
+            if (sample[i - 1] > sample[i]) {
+                System.out.println("Failed: Tuned quicksort did not sort");
+                allPassed = false;
+                break;
+            }
+        }
+
+        // Test that a sorter without a sub-sorter needs no cutoff
+        if (CutoffTuner.primitiveCutoff(null) != 0 || CutoffTuner.objectCutoff(null) != 0) {
+            System.out.println("Failed: Cutoff without sub-sorter should be 0");
+            allPassed = false;
+        }
+
+        // Test that the benchmark leaves the metrics of the sub-sorter alone
+        GTUSorter measured = new MyQuickSort(new MyInsertSort(), 5);
+        measured.enableMetrics();
+        CutoffTuner.primitiveCutoff(measured);
+        CutoffTuner.objectCutoff(measured);
+        SortMetrics untouched = measured.getMetrics();
+        if (untouched.getComparisons() != 0 || untouched.getSwaps() != 0 || untouched.getPartitions() != 0) {
+            System.out.println("Failed: Tuning should not be counted in the sub-sorter's metrics, got "
+                    + untouched.getPartitions() + " partitions");
+            allPassed = false;
+        }
+
+        // Test that a negative cutoff is rejected instead of turning on tuning
+        try {
+            new MyQuickSort(new MyInsertSort(), -1);
+            System.out.println("Failed: Should throw exception for a negative partition limit");
+            allPassed = false;
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testExternalSorter() {
+        boolean allPassed = true;
+
+        // Chunks of 50 values give 200 runs, which needs more than one merge pass
+        int[] values = new Random(9).ints(10000, -1000, 1000).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (int chunkSize : new int[] {50, 20000}) {
+            for (boolean descending : new boolean[] {false, true}) {
+                try {
+                    File file = File.createTempFile("external", ".txt");
+                    file.deleteOnExit();
+                    try (ExternalSorter sorter = new ExternalSorter(new MyQuickSort(), chunkSize, descending);
+                            NumberWriter writer = new NumberWriter(file.getPath())) {
+                        for (int value : values) {
+                            sorter.add(value);
+                        }
+                        sorter.writeSorted(writer);
+                    }
+
+                    List<String> lines = Files.readAllLines(file.toPath());
+                    boolean sorted = lines.size() == expected.length;
+                    for (int i = 0; sorted && i < expected.length; i++) {
+                        int want = descending ? expected[expected.length - 1 - i] : expected[i];
+                        sorted = Integer.parseInt(lines.get(i)) == want;
+                    }
+                    if (!sorted) {
+                        System.out.println("Failed: ExternalSorter output is not sorted (chunk size " + chunkSize + ")");
+                        allPassed = false;
+                    }
+                } catch (IOException e) {
+                    System.out.println("Failed: ExternalSorter could not write: " + e.getMessage());
+                    allPassed = false;
+                }
+            }
+        }
+
+        // Test that a failed merge pass leaves no temporary files behind
+        File tempRoot = new File(System.getProperty("java.io.tmpdir"));
+        List<String> before = Arrays.asList(tempRoot.list());
+        try {
+            ExternalSorter sorter = new ExternalSorter(new MyQuickSort(), 50, false);
+            for (int value : values) {
+                sorter.add(value);
+            }
+            File runDir = null;
+            for (String name : tempRoot.list()) {
+                if (name.startsWith("gtu-sort") && !before.contains(name)) {
+                    runDir = new File(tempRoot, name);
+                }
+            }
+            if (runDir == null || !new File(runDir, "run0.bin").delete()) {
+                System.out.println("Failed: ExternalSorter should have spilled runs to disk");
+                allPassed = false;
+            } else {
+                File file = File.createTempFile("external", ".txt");
+                file.deleteOnExit();
+                try (NumberWriter writer = new NumberWriter(file.getPath())) {
+                    sorter.writeSorted(writer);
+                    System.out.println("Failed: ExternalSorter should fail when a run is missing");
+                    allPassed = false;
+                } catch (IOException e) {
+                    // Expected
+                }
+                sorter.close();
+                if (runDir.exists()) {
+                    System.out.println("Failed: ExternalSorter left temporary files after a failed merge");
+                    allPassed = false;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Failed: ExternalSorter could not clean up: " + e.getMessage());
+            allPassed = false;
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testSortMetrics() {
+        boolean allPassed = true;
+
+        // Test that nothing is collected while metrics are disabled
+        MyInsertSort insertSort = new MyInsertSort();
+        insertSort.sort(new int[] {3, 2, 1});
+        if (insertSort.getMetrics().getCalls() != 0) {
+            System.out.println("Failed: Metrics collected while disabled");
+            allPassed = false;
+        }
+
+        // Test exact counts on a reversed array: every pair is compared and shifted once
+        insertSort.enableMetrics();
+        insertSort.sort(new int[] {5, 4, 3, 2, 1});
+        SortMetrics metrics = insertSort.getMetrics();
+        if (metrics.getCalls() != 1 || metrics.getElements() != 5
+                || metrics.getComparisons() != 10 || metrics.getSwaps() != 10) {
+            System.out.println("Failed: Wrong insertion sort metrics: " + metrics);
+            allPassed = false;
+        }
+
+        // Test that comparator sorts count comparisons through the comparator
+        insertSort.resetMetrics();
+        insertSort.sort(new Integer[] {5, 4, 3, 2, 1}, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return a.compareTo(b);
+            }
+        });
+        metrics = insertSort.getMetrics();
+        if (metrics.getCalls() != 1 || metrics.getComparisons() != 10 || metrics.getSwaps() != 10) {
+            System.out.println("Failed: Wrong comparator sort metrics: " + metrics);
+            allPassed = false;
+        }
+
+        MySelectSort selectSort = new MySelectSort();
+        selectSort.enableMetrics();
+        selectSort.sort(new int[] {5, 4, 3, 2, 1});
+        metrics = selectSort.getMetrics();
+        if (metrics.getComparisons() != 10 || metrics.getSwaps() != 2) {
+            System.out.println("Failed: Wrong selection sort metrics: " + metrics);
+            allPassed = false;
+        }
+
+        // Test quicksort partition statistics
+        MyQuickSort quickSort = new MyQuickSort();
+        quickSort.enableMetrics();
+        int n = 1 << 16;
+        quickSort.sort(new Random(11).ints(n).toArray());
+        quickSort.sort(new int[n]);
+        metrics = quickSort.getMetrics();
+        long histogramCalls = 0;
+        for (long calls : metrics.getTimeHistogram()) {
+            histogramCalls += calls;
+        }
+        if (metrics.getCalls() != 2 || histogramCalls != 2 || metrics.getPartitions() == 0
+                || metrics.getMaxDepth() == 0 || metrics.getMaxDepth() > 32 || metrics.getComparisons() < n) {
+            System.out.println("Failed: Wrong quicksort metrics: " + metrics);
+            allPassed = false;
+        }
+
+        quickSort.disableMetrics();
+        if (quickSort.getMetrics().getCalls() != 0) {
+            System.out.println("Failed: Metrics not dropped when disabled");
+            allPassed = false;
+        }
+
+        // Test that the parallel path records into the recorder of its call
+        MyQuickSort parallelSort = new MyQuickSort(new MyInsertSort(), 16, 1 << 12);
+        parallelSort.enableMetrics();
+        int[] values = new Random(12).ints(n).toArray();
+        parallelSort.sort(values);
+        Integer[] boxed = new Random(13).ints(n).boxed().toArray(Integer[]::new);
+        parallelSort.sort(boxed, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return a.compareTo(b);
+            }
+        });
+        metrics = parallelSort.getMetrics();
+        boolean sorted = isSorted(boxed);
+        for (int i = 1; sorted && i < n; i++) {
+            sorted = values[i - 1] <= values[i];
+        }
+        if (!sorted || metrics.getCalls() != 2 || metrics.getPartitions() == 0
+                || metrics.getMaxDepth() == 0 || metrics.getMaxDepth() > 32 || metrics.getComparisons() < 2L * n) {
+            System.out.println("Failed: Wrong parallel quicksort metrics: " + metrics);
+            allPassed = false;
+        }
+
+        // Test that switching metrics while parallel sorts run never breaks a sort
+        Thread toggler = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!Thread.currentThread().isInterrupted()) {
+                    parallelSort.disableMetrics();
+                    parallelSort.enableMetrics();
+                }
+            }
+        });
+        toggler.start();
+        try {
+            for (int round = 0; round < 20; round++) {
+                values = new Random(round).ints(n).toArray();
+                parallelSort.sort(values);
+                for (int i = 1; i < n; i++) {
+                    if (values[i - 1] > values[i]) {
+                        System.out.println("Failed: Parallel sort not sorted while metrics were switched");
+                        allPassed = false;
+                        break;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Failed: Parallel sort threw while metrics were switched: " + e);
+            allPassed = false;
+        }
+        toggler.interrupt();
+        try {
+            toggler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return allPassed;
+    }
+
     private static boolean testMatrixGraph() {
         boolean allPassed = true;
         
@@ -169,6 +784,12 @@ public class MyTests {
             allPassed = false;
         }
 
+        graph.setEdge(4, 0);
+        if (!Arrays.equals(visitNeighbors(graph, 0), new int[] {1, 4})) {
+            System.out.println("Failed: forEachNeighbor of 0 should visit [1, 4]");
+            allPassed = false;
+        }
+
         // Test reset
         graph.reset(3);
         if (graph.size() != 3) {
@@ -254,12 +875,958 @@ public class MyTests {
         return allPassed;
     }
 
-    private static boolean isSorted(Integer[] arr) {
-        for (int i = 0; i < arr.length - 1; i++) {
-            if (arr[i] > arr[i + 1]) {
-                return false;
+    private static boolean testAdjacencyVectSetOps() {
+        boolean allPassed = true;
+
+        // Vectors that span several words
+        AdjacencyVect a = new AdjacencyVect(200);
+        AdjacencyVect b = new AdjacencyVect(200);
+        for (int i = 0; i < 200; i += 3) a.add(i);
+        for (int i = 0; i < 200; i += 5) b.add(i);
+
+        // Test iteration order and word skipping
+        int expected = 0;
+        for (Integer v : a) {
+            if (v != expected) {
+                System.out.println("Failed: Iterator should return " + expected + " but returned " + v);
+                allPassed = false;
+                break;
             }
+            expected += 3;
         }
-        return true;
+
+        // Test a sparse vector: hasNext must not move the iterator
+        AdjacencyVect sparse = new AdjacencyVect(200);
+        int[] members = {1, 63, 64, 199};
+        for (int v : members) sparse.add(v);
+        Iterator<Integer> it = sparse.iterator();
+        for (int v : members) {
+            if (!it.hasNext() || !it.hasNext() || it.next() != v) {
+                System.out.println("Failed: Sparse iterator should return " + v);
+                allPassed = false;
+                break;
+            }
+        }
+        if (it.hasNext() || new AdjacencyVect(0).iterator().hasNext()) {
+            System.out.println("Failed: Iterator should be exhausted");
+            allPassed = false;
+        }
+
+        int[] visited = new int[members.length];
+        int[] visitCount = {0};
+        sparse.forEachVertex(new IntConsumer() {
+            @Override
+            public void accept(int v) {
+                visited[visitCount[0]++] = v;
+            }
+        });
+        if (!Arrays.equals(visited, members)) {
+            System.out.println("Failed: forEachVertex should visit " + Arrays.toString(members));
+            allPassed = false;
+        }
+
+        // Test intersects
+        if (!a.intersects(b)) {
+            System.out.println("Failed: Vectors sharing multiples of 15 should intersect");
+            allPassed = false;
+        }
+
+        // Test retainAll
+        AdjacencyVect c = new AdjacencyVect(200);
+        c.addAll(a);
+        c.retainAll(b);
+        if (c.size() != 14 || !c.contains(195) || c.contains(3)) {
+            System.out.println("Failed: retainAll should keep only multiples of 15");
+            allPassed = false;
+        }
+
+        // Test containsAll
+        if (!a.containsAll(c) || c.containsAll(a)) {
+            System.out.println("Failed: containsAll gave a wrong answer");
+            allPassed = false;
+        }
+
+        // Test removeAll
+        a.removeAll(b);
+        if (a.size() != 67 - 14 || a.intersects(b)) {
+            System.out.println("Failed: removeAll should leave no common vertices");
+            allPassed = false;
+        }
+
+        // Test clear
+        a.clear();
+        if (!a.isEmpty() || a.iterator().hasNext()) {
+            System.out.println("Failed: Vector should be empty after clear");
+            allPassed = false;
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testCsrGraph() {
+        boolean allPassed = true;
+
+        // Test edge operations through the buffered path
+        CsrGraph graph = new CsrGraph(5);
+        if (!graph.setEdge(0, 1) || !graph.setEdge(3, 1) || !graph.setEdge(4, 4)) {
+            System.out.println("Failed: Should be able to add new edges");
+            allPassed = false;
+        }
+
+        if (!graph.getEdge(1, 0) || !graph.getEdge(1, 3) || !graph.getEdge(4, 4) || graph.getEdge(0, 3)) {
+            System.out.println("Failed: CsrGraph edges do not match the added ones");
+            allPassed = false;
+        }
+
+        if (graph.setEdge(1, 0)) {
+            System.out.println("Failed: Should not report an existing edge as new");
+            allPassed = false;
+        }
+
+        // A buffered edge must not be reported as new again, in either direction
+        CsrGraph buffered = new CsrGraph(4);
+        if (!buffered.setEdge(0, 1) || buffered.setEdge(0, 1) || buffered.setEdge(1, 0) || !buffered.setEdge(2, 2)) {
+            System.out.println("Failed: setEdge should return false for an edge that is only buffered");
+            allPassed = false;
+        }
+        buffered.setEdges(new int[] {2}, new int[] {3}, 1);
+        if (buffered.setEdge(3, 2) || buffered.edgeCount() != 3) {
+            System.out.println("Failed: setEdge should see edges added with setEdges");
+            allPassed = false;
+        }
+
+        // Test neighbors are sorted and free of duplicates
+        graph.setEdge(1, 2);
+        graph.setEdge(2, 1);
+        Object[] neighbors = graph.getNeighbors(1).toArray();
+        if (!Arrays.equals(neighbors, new Object[] {0, 2, 3})) {
+            System.out.println("Failed: Neighbors of 1 should be [0, 2, 3]");
+            allPassed = false;
+        }
+
+        // Test forEachNeighbor sees buffered edges
+        graph.setEdge(4, 1);
+        if (!Arrays.equals(visitNeighbors(graph, 1), new int[] {0, 2, 3, 4})) {
+            System.out.println("Failed: forEachNeighbor of 1 should visit [0, 2, 3, 4]");
+            allPassed = false;
+        }
+
+        // Test that edges kept in the overlay read like merged ones, mixed with bulk inserts
+        Random random = new Random(29);
+        CsrGraph mixed = new CsrGraph(60);
+        MatrixGraph reference = new MatrixGraph(60);
+        for (int step = 0; step < 600; step++) {
+            if (step % 50 == 49) {
+                int[] from = new int[10];
+                int[] to = new int[10];
+                for (int i = 0; i < 10; i++) {
+                    from[i] = random.nextInt(60);
+                    to[i] = random.nextInt(60);
+                }
+                mixed.setEdges(from, to, 10);
+                reference.setEdges(from, to, 10);
+            } else {
+                int v1 = random.nextInt(60);
+                int v2 = random.nextInt(60);
+                if (!mixed.setEdge(v1, v2).equals(reference.setEdge(v1, v2))) {
+                    System.out.println("Failed: CsrGraph.setEdge(" + v1 + ", " + v2 + ") differs from MatrixGraph");
+                    allPassed = false;
+                    break;
+                }
+            }
+            int v = random.nextInt(60);
+            int u = random.nextInt(60);
+            if (mixed.degree(v) != reference.degree(v) || !mixed.getEdge(v, u).equals(reference.getEdge(v, u))
+                    || !Arrays.equals(visitNeighbors(mixed, v), visitNeighbors(reference, v))
+                    || !Arrays.equals(mixed.getNeighbors(v).toArray(), reference.getNeighbors(v).toArray())
+                    || mixed.edgeCount() != reference.edgeCount()
+                    || !Arrays.equals(mixed.degreeHistogram(), reference.degreeHistogram())) {
+                System.out.println("Failed: CsrGraph with buffered edges differs from MatrixGraph at step " + step);
+                allPassed = false;
+                break;
+            }
+        }
+        if (!sameGraph(mixed, reference) || !Arrays.equals(mixed.degrees(), reference.degrees())) {
+            System.out.println("Failed: CsrGraph with buffered edges differs from MatrixGraph");
+            allPassed = false;
+        }
+
+        // Test a hub built edge by edge, in random order, with reads in between
+        CsrGraph star = new CsrGraph(5000);
+        int[] order = new int[4999];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i + 1;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        boolean starSorted = true;
+        for (int i = 0; i < order.length; i++) {
+            star.setEdge(0, order[i]);
+            if (i % 1000 == 0) {
+                int[] hub = visitNeighbors(star, 0);
+                for (int k = 1; k < hub.length; k++) {
+                    starSorted &= hub[k - 1] < hub[k];
+                }
+            }
+        }
+        int[] hub = visitNeighbors(star, 0);
+        for (int k = 0; k < hub.length; k++) {
+            starSorted &= hub[k] == k + 1;
+        }
+        if (!starSorted || hub.length != 4999 || star.degree(0) != 4999 || star.edgeCount() != 4999) {
+            System.out.println("Failed: Hub neighbors added by setEdge should read back sorted");
+            allPassed = false;
+        }
+
+        // Test loading from an edge file matches MatrixGraph
+        try {
+            File file = File.createTempFile("csr", ".txt");
+            file.deleteOnExit();
+            FileWriter writer = new FileWriter(file);
+            writer.write("6\n0 1\n1 2\n2 0\n3 4\n4 3\n5 0\n");
+            writer.close();
+
+            CsrGraph loaded = CsrGraph.fromEdgeFile(file.getPath());
+            MatrixGraph matrix = new MatrixGraph();
+            GTUGraph.readGraph(file.getPath(), matrix);
+            if (!sameGraph(loaded, matrix)) {
+                System.out.println("Failed: CsrGraph loaded from file differs from MatrixGraph");
+                allPassed = false;
+            }
+        } catch (IOException e) {
+            System.out.println("Failed: Could not load CsrGraph from file: " + e.getMessage());
+            allPassed = false;
+        }
+
+        // Test invalid operations
+        try {
+            graph.setEdge(0, 5);
+            System.out.println("Failed: Should throw exception for out of bounds vertex");
+            allPassed = false;
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testEdgeFileReader() {
+        boolean allPassed = true;
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        MatrixGraph expected = new MatrixGraph();
+        expected.reset(4);
+        expected.setEdge(0, 1);
+        expected.setEdge(1, 3);
+
+        // Every layout below holds the edges 0-1 and 1-3 of a 4-vertex graph
+        String[][] cases = {
+            {"extra tokens", "4\n0 1 2\n1 3 0\n"},
+            {"extra header tokens", "4 9\n0 1\n1 3"},
+            {"CRLF", "4\r\n0 1\r\n1 3\r\n"},
+            {"blank lines", "\n4\n\n0 1\n  \n\t\n1 3\n\n"},
+            {"repeated separators", "4\n0  1\n\t1\t3 \n"},
+        };
+        for (String[] c : cases) {
+            try {
+                File file = writeTempFile(c[1]);
+                MatrixGraph sequential = new MatrixGraph();
+                GTUGraph.readGraph(file.getPath(), sequential);
+                MatrixGraph parallel = new MatrixGraph();
+                GTUGraph.readGraph(file.getPath(), parallel, pool);
+                CsrGraph csr = CsrGraph.fromEdgeFile(file.getPath());
+                if (!sameGraph(sequential, expected) || !sameGraph(parallel, expected) || !sameGraph(csr, expected)) {
+                    System.out.println("Failed: Edge file with " + c[0] + " should give edges 0-1 and 1-3");
+                    allPassed = false;
+                }
+            } catch (IOException e) {
+                System.out.println("Failed: Could not read edge file with " + c[0] + ": " + e.getMessage());
+                allPassed = false;
+            }
+        }
+
+        // Test files that must be rejected instead of giving a shifted or empty graph
+        String[][] invalid = {
+            {"an empty file", ""},
+            {"only blank lines", "\n\r\n \n"},
+            {"a single vertex on a line", "4\n0\n1 3\n"},
+            {"an incomplete last edge", "4\n0 1\n1"},
+            {"an unexpected character", "4\n0 x\n"},
+        };
+        EdgeSink ignore = new EdgeSink() {
+            @Override
+            public void begin(int vertexCount) {
+            }
+
+            @Override
+            public void edges(int[] from, int[] to, int count) {
+            }
+        };
+        for (String[] c : invalid) {
+            File file;
+            try {
+                file = writeTempFile(c[1]);
+            } catch (IOException e) {
+                System.out.println("Failed: Could not write edge file: " + e.getMessage());
+                allPassed = false;
+                continue;
+            }
+            try {
+                EdgeFileReader.read(file.getPath(), ignore);
+                System.out.println("Failed: Reading " + c[0] + " should throw IOException");
+                allPassed = false;
+            } catch (IOException e) {
+                // Expected
+            }
+            try {
+                EdgeFileReader.readParallel(file.getPath(), ignore, pool);
+                System.out.println("Failed: Reading " + c[0] + " in parallel should throw IOException");
+                allPassed = false;
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+
+        // Test a file large enough to be split into several chunks. All lines are
+        // 14 bytes, and with an odd line count and four threads the ~4 MiB body is
+        // cut every 1050004 bytes, which is 4 bytes into a line.
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            int lines = 300001;
+            Random random = new Random(21);
+            StringBuilder text = new StringBuilder(lines * 14 + 8);
+            text.append("100000\n");
+            for (int i = 0; i < lines; i++) {
+                text.append(String.format("%06d %06d\n", random.nextInt(100000), random.nextInt(100000)));
+            }
+            File file = writeTempFile(text.toString());
+            if (file.length() - 7 < 4 * (1 << 20) || (file.length() - 7 + 3) / 4 % 14 == 0) {
+                System.out.println("Failed: Large edge file does not split inside a line");
+                allPassed = false;
+            }
+
+            long[] sequential = readEdgeList(file.getPath(), null);
+            long[] parallel = readEdgeList(file.getPath(), wide);
+            if (sequential.length != lines + 1 || !Arrays.equals(sequential, parallel)) {
+                System.out.println("Failed: Parallel read of a large file should give the same edges in the same order");
+                allPassed = false;
+            }
+        } catch (IOException e) {
+            System.out.println("Failed: Could not read large edge file: " + e.getMessage());
+            allPassed = false;
+        }
+
+        wide.shutdown();
+        pool.shutdown();
+        return allPassed;
+    }
+
+    private static boolean testGraphDegrees() {
+        boolean allPassed = true;
+
+        // Small graph with a repeated edge and a self loop in both representations
+        GTUGraph[] graphs = {new MatrixGraph(5), new CsrGraph(5)};
+        for (GTUGraph graph : graphs) {
+            String name = graph.getClass().getSimpleName();
+            graph.setEdge(0, 1);
+            graph.setEdge(1, 3);
+            graph.setEdge(1, 0);
+            graph.setEdge(4, 4);
+
+            if (graph.degree(1) != 2 || graph.degree(2) != 0 || graph.degree(4) != 1) {
+                System.out.println("Failed: " + name + " degree() is wrong");
+                allPassed = false;
+            }
+            if (!Arrays.equals(graph.degrees(), new int[] {1, 2, 0, 1, 1})) {
+                System.out.println("Failed: " + name + " degrees() should be [1, 2, 0, 1, 1]");
+                allPassed = false;
+            }
+            if (graph.edgeCount() != 3) {
+                System.out.println("Failed: " + name + " should have 3 edges, got " + graph.edgeCount());
+                allPassed = false;
+            }
+            if (!Arrays.equals(graph.degreeHistogram(), new int[] {1, 3, 1})) {
+                System.out.println("Failed: " + name + " histogram should be [1, 3, 1]");
+                allPassed = false;
+            }
+
+            graph.reset(3);
+            if (graph.edgeCount() != 0 || !Arrays.equals(graph.degreeHistogram(), new int[] {3})) {
+                System.out.println("Failed: " + name + " reset should clear the degree counters");
+                allPassed = false;
+            }
+        }
+
+        // Cached values must match a count over the neighbor collections
+        MatrixGraph matrix = randomGraph(300, 2000, 21);
+        CsrGraph csr = new CsrGraph(300);
+        Random random = new Random(21);
+        for (int i = 0; i < 2000; i++) {
+            csr.setEdge(random.nextInt(300), random.nextInt(300));
+        }
+        for (GTUGraph graph : new GTUGraph[] {matrix, csr}) {
+            String name = graph.getClass().getSimpleName();
+            int[] degrees = new int[graph.size()];
+            long edges = 0;
+            int maxDegree = 0;
+            for (int v = 0; v < graph.size(); v++) {
+                for (int u : graph.getNeighbors(v)) {
+                    degrees[v]++;
+                    if (u >= v) edges++;
+                }
+                maxDegree = Math.max(maxDegree, degrees[v]);
+            }
+            int[] histogram = new int[maxDegree + 1];
+            for (int d : degrees) {
+                histogram[d]++;
+            }
+
+            if (!Arrays.equals(graph.degrees(), degrees) || graph.edgeCount() != edges
+                    || !Arrays.equals(graph.degreeHistogram(), histogram)) {
+                System.out.println("Failed: " + name + " degree counters differ from its neighbor lists");
+                allPassed = false;
+            }
+        }
+        if (!sameGraph(matrix, csr)) {
+            System.out.println("Failed: Random MatrixGraph and CsrGraph should be equal");
+            allPassed = false;
+        }
+
+        // Test invalid operations
+        try {
+            matrix.degree(300);
+            System.out.println("Failed: Should throw exception for out of bounds vertex");
+            allPassed = false;
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testGraphSnapshot() {
+        boolean allPassed = true;
+
+        // Graph with large gaps, a self loop and isolated vertices
+        MatrixGraph graph = new MatrixGraph(300);
+        graph.setEdge(0, 299);
+        graph.setEdge(0, 1);
+        graph.setEdge(150, 150);
+        graph.setEdge(10, 140);
+        graph.setEdge(200, 140);
+
+        try {
+            File file = File.createTempFile("snapshot", ".bin");
+            file.deleteOnExit();
+            GTUGraph.writeBinary(file.getPath(), graph);
+
+            // Test round trip into both implementations
+            MatrixGraph matrix = new MatrixGraph();
+            GTUGraph.readBinary(file.getPath(), matrix);
+            CsrGraph csr = new CsrGraph();
+            GTUGraph.readBinary(file.getPath(), csr);
+            if (!sameGraph(graph, matrix) || !sameGraph(graph, csr)) {
+                System.out.println("Failed: Graph read from snapshot differs from the original");
+                allPassed = false;
+            }
+        } catch (IOException e) {
+            System.out.println("Failed: Could not create snapshot file: " + e.getMessage());
+            allPassed = false;
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testTraversal() {
+        boolean allPassed = true;
+
+        // Triangle with a tail, an edge with a self loop and an isolated vertex
+        GTUGraph[] graphs = {new MatrixGraph(8), new CsrGraph(8)};
+        for (GTUGraph graph : graphs) {
+            String name = graph.getClass().getSimpleName();
+            int[][] edges = {{0, 1}, {1, 2}, {2, 0}, {2, 3}, {3, 4}, {5, 6}, {6, 6}};
+            for (int[] edge : edges) {
+                graph.setEdge(edge[0], edge[1]);
+            }
+
+            // anyNeighbor tests in ascending order and stops at the first match
+            int[] tested = new int[8];
+            int[] testedCount = {0};
+            boolean found = graph.anyNeighbor(2, new IntPredicate() {
+                @Override
+                public boolean test(int u) {
+                    tested[testedCount[0]++] = u;
+                    return u > 0;
+                }
+            });
+            if (!found || !Arrays.equals(Arrays.copyOf(tested, testedCount[0]), new int[] {0, 1})
+                    || graph.anyNeighbor(7, new IntPredicate() {
+                        @Override
+                        public boolean test(int u) {
+                            return true;
+                        }
+                    })) {
+                System.out.println("Failed: " + name + " anyNeighbor should stop at the first match");
+                allPassed = false;
+            }
+
+            BreadthFirstSearch bfs = new BreadthFirstSearch(graph, 0);
+            if (!Arrays.equals(bfs.distances(), new int[] {0, 1, 1, 2, 3, -1, -1, -1}) || bfs.reachedCount() != 5
+                    || bfs.parent(4) != 3 || bfs.parent(0) != 0 || bfs.parent(5) != -1) {
+                System.out.println("Failed: " + name + " BFS distances or parents are wrong");
+                allPassed = false;
+            }
+
+            DepthFirstSearch dfs = new DepthFirstSearch(graph, 0);
+            if (!Arrays.equals(dfs.preorder(), new int[] {0, 1, 2, 3, 4})
+                    || !Arrays.equals(dfs.postorder(), new int[] {4, 3, 2, 1, 0})
+                    || dfs.parent(2) != 1 || dfs.isReached(7)) {
+                System.out.println("Failed: " + name + " DFS order is wrong");
+                allPassed = false;
+            }
+
+            ConnectedComponents components = new ConnectedComponents(graph);
+            if (components.count() != 3 || !Arrays.equals(components.componentIds(), new int[] {0, 0, 0, 0, 0, 1, 1, 2})
+                    || !Arrays.equals(components.vertices(1), new int[] {5, 6}) || components.size(0) != 5) {
+                System.out.println("Failed: " + name + " should have components {0..4}, {5, 6}, {7}");
+                allPassed = false;
+            }
+
+            KCore cores = new KCore(graph);
+            if (!Arrays.equals(cores.coreNumbers(), new int[] {2, 2, 2, 1, 1, 1, 1, 0}) || cores.degeneracy() != 2
+                    || !Arrays.equals(cores.coreVertices(2), new int[] {0, 1, 2})) {
+                System.out.println("Failed: " + name + " core numbers are wrong: " + Arrays.toString(cores.coreNumbers()));
+                allPassed = false;
+            }
+        }
+
+        // Dense random graph: the search switches to bottom-up and must still match a plain BFS
+        MatrixGraph graph = randomGraph(2000, 30000, 23);
+        BreadthFirstSearch bfs = new BreadthFirstSearch(graph, 0);
+        int[] expected = new int[graph.size()];
+        Arrays.fill(expected, -1);
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+        expected[0] = 0;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int u : graph.getNeighbors(v)) {
+                if (expected[u] < 0) {
+                    expected[u] = expected[v] + 1;
+                    queue[tail++] = u;
+                }
+            }
+        }
+        if (!Arrays.equals(bfs.distances(), expected) || bfs.bottomUpLevels() == 0) {
+            System.out.println("Failed: Direction-optimizing BFS differs from a plain BFS");
+            allPassed = false;
+        }
+        CsrGraph csr = new CsrGraph(graph.size());
+        for (int v = 0; v < graph.size(); v++) {
+            for (int u : graph.getNeighbors(v)) {
+                if (u >= v) csr.setEdge(v, u);
+            }
+        }
+        BreadthFirstSearch csrBfs = new BreadthFirstSearch(csr, 0);
+        if (!Arrays.equals(csrBfs.distances(), expected) || csrBfs.bottomUpLevels() == 0) {
+            System.out.println("Failed: Direction-optimizing BFS on CsrGraph differs from a plain BFS");
+            allPassed = false;
+        }
+        for (int v = 1; v < graph.size(); v++) {
+            int p = bfs.parent(v);
+            if (p >= 0 && (!graph.getEdge(p, v) || bfs.distance(p) != bfs.distance(v) - 1)) {
+                System.out.println("Failed: BFS parent of " + v + " is not one level closer");
+                allPassed = false;
+                break;
+            }
+        }
+
+        // Every vertex may have at most degeneracy neighbors peeled after it
+        KCore cores = new KCore(graph);
+        int[] order = cores.removalOrder();
+        int[] removedAt = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            removedAt[order[i]] = i;
+        }
+        for (int v = 0; v < graph.size(); v++) {
+            int later = 0;
+            for (int u : graph.getNeighbors(v)) {
+                if (removedAt[u] > removedAt[v]) later++;
+            }
+            if (later > cores.degeneracy()) {
+                System.out.println("Failed: Removal order is not a degeneracy ordering");
+                allPassed = false;
+                break;
+            }
+        }
+
+        // A long path must not overflow the stack
+        CsrGraph path = new CsrGraph(100000);
+        for (int v = 1; v < path.size(); v++) {
+            path.setEdge(v - 1, v);
+        }
+        DepthFirstSearch dfs = new DepthFirstSearch(path, 0);
+        if (dfs.reachedCount() != path.size() || dfs.postorder()[0] != path.size() - 1) {
+            System.out.println("Failed: DFS over a long path should reach every vertex");
+            allPassed = false;
+        }
+
+        // Union-find on its own
+        UnionFind sets = new UnionFind(6);
+        sets.union(0, 1);
+        sets.union(2, 3);
+        sets.union(1, 3);
+        if (sets.union(0, 2) || sets.setCount() != 3 || sets.setSize(3) != 4 || sets.connected(4, 5)) {
+            System.out.println("Failed: UnionFind sets are wrong");
+            allPassed = false;
+        }
+
+        // Test invalid operations
+        try {
+            new BreadthFirstSearch(graph, graph.size());
+            System.out.println("Failed: Should throw exception for out of bounds source");
+            allPassed = false;
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testGreedyGCA() {
+        boolean allPassed = true;
+
+        // Test an odd cycle, which needs three colors
+        MatrixGraph cycle = new MatrixGraph(5);
+        for (int i = 0; i < 5; i++) {
+            cycle.setEdge(i, (i + 1) % 5);
+        }
+        GCASolution solution = GreedyGCA.solve(cycle, new MyQuickSort());
+        if (!isValidColoring(cycle, solution) || solution.colorNum() != 3) {
+            System.out.println("Failed: 5-cycle should get a valid 3-coloring");
+            allPassed = false;
+        }
+
+        // Test a denser random graph with every sorter
+        MatrixGraph graph = randomGraph(200, 2000, 42);
+        GTUSorter[] sorters = {
+            new MyInsertSort(),
+            new MySelectSort(),
+            new MyQuickSort(new MyInsertSort(), 10),
+            new MyMergeSort(),
+            new MyRadixSort()
+        };
+        GCASolution expected = GreedyGCA.solve(graph, new MyHeapSort());
+        for (GTUSorter sorter : sorters) {
+            GCASolution result = GreedyGCA.solve(graph, sorter);
+            if (!isValidColoring(graph, result)) {
+                System.out.println("Failed: Invalid coloring with " + sorter.getClass().getSimpleName());
+                allPassed = false;
+            }
+            // Every sorter must produce the same vertex order
+            for (int v = 0; v < graph.size(); v++) {
+                if (result.getColor(v) != expected.getColor(v)) {
+                    System.out.println("Failed: Different coloring with " + sorter.getClass().getSimpleName());
+                    allPassed = false;
+                    break;
+                }
+            }
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testGCAStrategies() {
+        boolean allPassed = true;
+
+        GCAStrategy[] strategies = {
+            new GreedyGCA(new MyQuickSort()),
+            new WelshPowellGCA(),
+            new DSaturGCA(),
+            new ParallelGCA(),
+            new ComponentGCA(new MyMergeSort())
+        };
+
+        // Crown graph: bipartite, but bad orders make greedy use many colors
+        MatrixGraph crown = new MatrixGraph(20);
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (i != j) crown.setEdge(2 * i, 2 * j + 1);
+            }
+        }
+        if (new DSaturGCA().solve(crown).colorNum() != 2) {
+            System.out.println("Failed: DSatur should 2-color a bipartite graph");
+            allPassed = false;
+        }
+
+        MatrixGraph graph = randomGraph(300, 4000, 7);
+        for (GCAStrategy strategy : strategies) {
+            if (!isValidColoring(graph, strategy.solve(graph)) || !isValidColoring(crown, strategy.solve(crown))) {
+                System.out.println("Failed: Invalid coloring with " + strategy.getClass().getSimpleName());
+                allPassed = false;
+            }
+        }
+
+        // Graphs larger than one task, so the parallel strategies really split the work
+        ForkJoinPool pool = new ForkJoinPool(4);
+        MatrixGraph[] large = {randomGraph(6000, 90000, 8), randomGraph(3000, 3000, 9), randomGraph(9000, 40000, 10)};
+        GCAStrategy[] parallel = {new ParallelGCA(pool), new ComponentGCA(new MyQuickSort(), pool)};
+        for (GCAStrategy strategy : parallel) {
+            for (MatrixGraph g : large) {
+                if (!isValidColoring(g, strategy.solve(g))) {
+                    System.out.println("Failed: Invalid coloring of " + g.size() + " vertices with "
+                            + strategy.getClass().getSimpleName() + " on four threads");
+                    allPassed = false;
+                }
+            }
+        }
+
+        // Sparse graph with many components: coloring them apart must give the greedy result
+        MatrixGraph forest = randomGraph(20000, 12000, 24);
+        GTUSorter[] sorters = {new MyQuickSort(), new MyMergeSort(), new MyRadixSort(), new MyInsertSort()};
+        for (GTUSorter sorter : sorters) {
+            GCASolution expected = GreedyGCA.solve(forest, sorter);
+            GCASolution actual = new ComponentGCA(sorter, pool).solve(forest);
+            boolean same = actual.colorNum().equals(expected.colorNum());
+            for (int v = 0; same && v < forest.size(); v++) {
+                same = actual.getColor(v) == expected.getColor(v);
+            }
+            if (!same) {
+                System.out.println("Failed: ComponentGCA differs from GreedyGCA with " + sorter.getClass().getSimpleName());
+                allPassed = false;
+            }
+        }
+        pool.shutdown();
+
+        // Test the empty graph
+        for (GCAStrategy strategy : strategies) {
+            if (strategy.solve(new MatrixGraph(0)).colorNum() != 0) {
+                System.out.println("Failed: Empty graph should need no colors with " + strategy.getClass().getSimpleName());
+                allPassed = false;
+            }
+        }
+
+        return allPassed;
+    }
+
+    private static boolean testIncrementalGCA() {
+        boolean allPassed = true;
+
+        // Two 2-colored edges; joining them needs a neighbor move, not a third color
+        MatrixGraph small = new MatrixGraph(4);
+        small.setEdge(0, 1);
+        small.setEdge(2, 3);
+        GCASolution start = new GCASolution(4);
+        start.addColor();
+        start.addColor();
+        start.setColor(0, 0);
+        start.setColor(1, 1);
+        start.setColor(2, 0);
+        start.setColor(3, 1);
+        IncrementalGCA service = new IncrementalGCA(small, start);
+        if (!service.setEdge(0, 2) || service.colorNum() != 2 || !isValidColoring(small, service.getSolution())) {
+            System.out.println("Failed: Joining two edges should keep 2 colors, got " + service.colorNum());
+            allPassed = false;
+        }
+
+        // A triangle needs a third color
+        service.setEdge(1, 3);
+        service.setEdge(0, 3);
+        if (service.colorNum() != 3 || !isValidColoring(small, service.getSolution())) {
+            System.out.println("Failed: Closing a triangle should need 3 colors");
+            allPassed = false;
+        }
+
+        // Random batches on both graph types must always leave a valid coloring
+        Random random = new Random(25);
+        GTUGraph[] graphs = {randomGraph(500, 3000, 25), new CsrGraph(500)};
+        for (GTUGraph graph : graphs) {
+            String name = graph.getClass().getSimpleName();
+            IncrementalGCA incremental = new IncrementalGCA(graph, new GreedyGCA(new MyQuickSort()));
+            int[] from = new int[50];
+            int[] to = new int[50];
+            for (int batch = 0; batch < 20; batch++) {
+                for (int i = 0; i < from.length; i++) {
+                    from[i] = random.nextInt(graph.size());
+                    to[i] = random.nextInt(graph.size());
+                }
+                int recolored = incremental.setEdges(from, to, from.length);
+                GCASolution solution = incremental.getSolution();
+                if (recolored > 2 * from.length || !isValidColoring(graph, solution)) {
+                    System.out.println("Failed: " + name + " coloring is invalid after batch " + batch);
+                    allPassed = false;
+                    break;
+                }
+                if (solution.colorNum() == 0 || solution.getColorVertices(solution.colorNum() - 1).isEmpty()) {
+                    System.out.println("Failed: " + name + " largest color should be in use");
+                    allPassed = false;
+                    break;
+                }
+            }
+        }
+
+        // Batches on a CsrGraph must go to its overlay and never rebuild the rows
+        CsrGraph rows = randomCsrGraph(2000, 10000, 26);
+        long rowEdges = rows.edgeCount();
+        IncrementalGCA overlay = new IncrementalGCA(rows, new GreedyGCA(new MyQuickSort()));
+        int[] from = new int[50];
+        int[] to = new int[50];
+        for (int batch = 0; batch < 20; batch++) {
+            for (int i = 0; i < from.length; i++) {
+                from[i] = random.nextInt(rows.size());
+                to[i] = random.nextInt(rows.size());
+            }
+            overlay.setEdges(from, to, from.length);
+            if (rows.bufferedEdgeCount() != rows.edgeCount() - rowEdges) {
+                System.out.println("Failed: CsrGraph rows were rebuilt during batch " + batch);
+                allPassed = false;
+                break;
+            }
+        }
+        if (!isValidColoring(rows, overlay.getSolution())) {
+            System.out.println("Failed: CsrGraph coloring is invalid after the overlay batches");
+            allPassed = false;
+        }
+
+        // Test invalid operations: a bad batch must not add anything
+        try {
+            service.setEdges(new int[] {0, 4}, new int[] {2, 1}, 2);
+            System.out.println("Failed: Should throw exception for out of bounds vertex");
+            allPassed = false;
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+
+        return allPassed;
+    }
+
+    private static MatrixGraph randomGraph(int vertexCount, int edgeCount, long seed) {
+        Random random = new Random(seed);
+        MatrixGraph graph = new MatrixGraph(vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            graph.setEdge(random.nextInt(vertexCount), random.nextInt(vertexCount));
+        }
+        return graph;
+    }
+
+    private static CsrGraph randomCsrGraph(int vertexCount, int edgeCount, long seed) {
+        Random random = new Random(seed);
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            from[i] = random.nextInt(vertexCount);
+            to[i] = random.nextInt(vertexCount);
+        }
+        CsrGraph graph = new CsrGraph(vertexCount);
+        graph.setEdges(from, to, edgeCount);
+        graph.edgeCount();
+        return graph;
+    }
+
+    private static boolean isValidColoring(GTUGraph graph, GCASolution solution) {
+        // Every vertex must have exactly one color.
+        int[] colorOf = new int[graph.size()];
+        Arrays.fill(colorOf, -1);
+        for (int c = 0; c < solution.colorNum(); c++) {
+            for (int v : solution.getColorVertices(c)) {
+                if (colorOf[v] != -1 || solution.getColor(v) != c) {
+                    return false;
+                }
+                colorOf[v] = c;
+            }
+        }
+
+        // No edge may join two vertices of the same color.
+        for (int v = 0; v < graph.size(); v++) {
+            if (colorOf[v] == -1) {
+                return false;
+            }
+            for (int u : graph.getNeighbors(v)) {
+                if (u != v && colorOf[u] == colorOf[v]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int[] visitNeighbors(GTUGraph graph, int v) {
+        int[] neighbors = new int[graph.size()];
+        int[] count = {0};
+        graph.forEachNeighbor(v, new IntConsumer() {
+            @Override
+            public void accept(int u) {
+                neighbors[count[0]++] = u;
+            }
+        });
+        return Arrays.copyOf(neighbors, count[0]);
+    }
+
+    private static boolean sameGraph(GTUGraph g1, GTUGraph g2) {
+        if (g1.size() != g2.size()) {
+            return false;
+        }
+        for (int v = 0; v < g1.size(); v++) {
+            if (!Arrays.equals(g1.getNeighbors(v).toArray(), g2.getNeighbors(v).toArray())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSorted(Integer[] arr) {
+        for (int i = 0; i < arr.length - 1; i++) {
+            if (arr[i] > arr[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] readEdgeList(String path, ForkJoinPool pool) throws IOException {
+        // Element 0 is the vertex count, then every edge packed as (from << 32) | to.
+        long[][] edges = {new long[16]};
+        int[] size = {0};
+        EdgeSink sink = new EdgeSink() {
+            @Override
+            public void begin(int vertexCount) {
+                add(vertexCount);
+            }
+
+            @Override
+            public void edges(int[] from, int[] to, int count) {
+                for (int i = 0; i < count; i++) {
+                    add(((long) from[i] << 32) | to[i]);
+                }
+            }
+
+            private void add(long value) {
+                if (size[0] == edges[0].length) {
+                    edges[0] = Arrays.copyOf(edges[0], size[0] * 2);
+                }
+                edges[0][size[0]++] = value;
+            }
+        };
+        if (pool == null) {
+            EdgeFileReader.read(path, sink);
+        } else {
+            EdgeFileReader.readParallel(path, sink, pool);
+        }
+        return Arrays.copyOf(edges[0], size[0]);
+    }
+
+    private static File writeTempFile(String text) throws IOException {
+        File file = File.createTempFile("edges", ".txt");
+        file.deleteOnExit();
+        FileWriter writer = new FileWriter(file);
+        writer.write(text);
+        writer.close();
+        return file;
     }
-}
\ No newline at end of file
+}